@@ -0,0 +1,71 @@
+package io.json.compare.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.CompareMode;
+import io.json.compare.JSONCompare;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Large unordered arrays, strict order arrays and non-extensible arrays of records
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayBenchmark {
+
+    private static final Set<CompareMode> STRICT_ORDER = Collections.unmodifiableSet(EnumSet.of(CompareMode.JSON_ARRAY_STRICT_ORDER));
+    private static final Set<CompareMode> NON_EXTENSIBLE = Collections.unmodifiableSet(
+            EnumSet.copyOf(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_NON_EXTENSIBLE)));
+
+    @Param({"true", "false"})
+    private boolean matching;
+
+    @Param({"1000"})
+    private int size;
+
+    private JsonNode expected;
+    private JsonNode actual;
+    private JsonNode reversedActual;
+
+    @Setup
+    public void setup() {
+        expected = Fixtures.json(Fixtures.array(size, Fixtures::record));
+        actual = Fixtures.json(Fixtures.array(size, i -> Fixtures.record(matching || i != size / 2 ? i : -1)));
+        reversedActual = Fixtures.json(Fixtures.array(size, i -> Fixtures.record(matching || i != size / 2 ? size - 1 - i : -1)));
+    }
+
+    @Benchmark
+    public List<String> unorderedArray() {
+        return JSONCompare.diffs(expected, reversedActual);
+    }
+
+    @Benchmark
+    public List<String> unorderedNonExtensibleArray() {
+        return JSONCompare.diffs(expected, reversedActual, NON_EXTENSIBLE);
+    }
+
+    @Benchmark
+    public List<String> strictOrderArray() {
+        return JSONCompare.diffs(expected, actual, STRICT_ORDER);
+    }
+}
@@ -0,0 +1,59 @@
+package io.json.compare.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.util.JsonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.IntFunction;
+
+final class Fixtures {
+
+    private Fixtures() {
+
+    }
+
+    static JsonNode json(String json) {
+        try {
+            return JsonUtils.toJson(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String object(int fields, IntFunction<String> field, IntFunction<String> value) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < fields; i++) {
+            sb.append(i > 0 ? "," : "").append('"').append(field.apply(i)).append("\":").append(value.apply(i));
+        }
+        return sb.append('}').toString();
+    }
+
+    static String array(int size, IntFunction<String> element) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(i > 0 ? "," : "").append(element.apply(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    static String nested(int depth, String leaf) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append("{\"id\":").append(i).append(",\"child\":");
+        }
+        sb.append(leaf);
+        for (int i = 0; i < depth; i++) {
+            sb.append('}');
+        }
+        return sb.toString();
+    }
+
+    static String text(String value) {
+        return '"' + value + '"';
+    }
+
+    static String record(int i) {
+        return "{\"id\":" + i + ",\"name\":\"name" + i + "\",\"active\":" + (i % 2 == 0) + ",\"tags\":[\"t" + (i % 5) + "\",\"x\"]}";
+    }
+}
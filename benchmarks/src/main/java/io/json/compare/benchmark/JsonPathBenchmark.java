@@ -0,0 +1,59 @@
+package io.json.compare.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.JSONCompare;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded json path expressions, on the root object and inside array elements
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPathBenchmark {
+
+    @Param({"true", "false"})
+    private boolean matching;
+
+    @Param({"200"})
+    private int size;
+
+    private JsonNode rootPathsExpected;
+    private JsonNode elementPathsExpected;
+    private JsonNode actual;
+
+    @Setup
+    public void setup() {
+        rootPathsExpected = Fixtures.json("{\"#($.records.length())\":" + size + ",\"#($.records[0].name)\":\"name0\"," +
+                "\"#($.records[?(@.active == true)].id)\":[0,2,4],\"#($..tags[0])\":[\"t0\",\"t1\"],\"!#($.missing)\":\".*\"}");
+        elementPathsExpected = Fixtures.json("{\"records\":" + Fixtures.array(size / 10, i -> "{\"#($.id)\":" + (i * 10)
+                + ",\"#($.tags.length())\":2}") + "}");
+        actual = Fixtures.json("{\"records\":" + Fixtures.array(size, i -> Fixtures.record(matching || i != 0 ? i : -1)) + "}");
+    }
+
+    @Benchmark
+    public List<String> rootJsonPaths() {
+        return JSONCompare.diffs(rootPathsExpected, actual);
+    }
+
+    @Benchmark
+    public List<String> arrayElementJsonPaths() {
+        return JSONCompare.diffs(elementPathsExpected, actual);
+    }
+}
@@ -0,0 +1,60 @@
+package io.json.compare.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.JSONCompare;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wide objects and deeply nested objects
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectBenchmark {
+
+    @Param({"true", "false"})
+    private boolean matching;
+
+    @Param({"1000"})
+    private int size;
+
+    private JsonNode wideExpected;
+    private JsonNode wideActual;
+    private JsonNode deepExpected;
+    private JsonNode deepActual;
+
+    @Setup
+    public void setup() {
+        wideExpected = Fixtures.json(Fixtures.object(size, i -> "flag" + i, i -> Fixtures.text("value" + i)));
+        wideActual = Fixtures.json(Fixtures.object(size, i -> "flag" + (size - 1 - i),
+                i -> Fixtures.text(matching || i % 100 != 0 ? "value" + (size - 1 - i) : "other")));
+        deepExpected = Fixtures.json(Fixtures.nested(size / 10, "{\"leaf\":\"value\"}"));
+        deepActual = Fixtures.json(Fixtures.nested(size / 10, matching ? "{\"leaf\":\"value\"}" : "{\"leaf\":\"other\"}"));
+    }
+
+    @Benchmark
+    public List<String> wideObject() {
+        return JSONCompare.diffs(wideExpected, wideActual);
+    }
+
+    @Benchmark
+    public List<String> deepObject() {
+        return JSONCompare.diffs(deepExpected, deepActual);
+    }
+}
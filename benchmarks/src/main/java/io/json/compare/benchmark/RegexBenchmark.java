@@ -0,0 +1,69 @@
+package io.json.compare.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.CompareMode;
+import io.json.compare.JSONCompare;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex-heavy fixtures versus literal fixtures, with and without REGEX_DISABLED
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegexBenchmark {
+
+    private static final Set<CompareMode> REGEX_DISABLED = Collections.unmodifiableSet(EnumSet.of(CompareMode.REGEX_DISABLED));
+
+    @Param({"true", "false"})
+    private boolean matching;
+
+    @Param({"500"})
+    private int size;
+
+    private JsonNode literalExpected;
+    private JsonNode regexExpected;
+    private JsonNode actual;
+
+    @Setup
+    public void setup() {
+        literalExpected = Fixtures.json(Fixtures.array(size, i -> "{\"id\":\"" + i + "\",\"status\":\"ACTIVE\"}"));
+        regexExpected = Fixtures.json(Fixtures.array(size, i -> "{\"i.*\":\"\\\\d+\",\"stat(us|e)\":\"(?i)active\"}"));
+        actual = Fixtures.json(Fixtures.array(size, i -> "{\"id\":\"" + i + "\",\"status\":\""
+                + (matching || i != size / 2 ? "ACTIVE" : "INACTIVE") + "\"}"));
+    }
+
+    @Benchmark
+    public List<String> literalFixture() {
+        return JSONCompare.diffs(literalExpected, actual);
+    }
+
+    @Benchmark
+    public List<String> literalFixtureWithRegexDisabled() {
+        return JSONCompare.diffs(literalExpected, actual, REGEX_DISABLED);
+    }
+
+    @Benchmark
+    public List<String> regexFixture() {
+        return JSONCompare.diffs(regexExpected, actual);
+    }
+}
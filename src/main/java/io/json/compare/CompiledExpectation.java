@@ -0,0 +1,196 @@
+package io.json.compare;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.matcher.ExpectedNode;
+import io.json.compare.matcher.JsonDiff;
+import io.json.compare.matcher.JsonMatcher;
+import io.json.compare.matcher.JsonProjection;
+import io.json.compare.matcher.MatchContext;
+import io.json.compare.util.JsonUtils;
+import io.json.compare.util.MessageUtil;
+import org.junit.jupiter.api.AssertionFailureBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Expected JSON which is parsed and analyzed only once, and which can then be matched against any number of actual JSONs.<br>
+ * Instances are immutable and thread-safe, as long as the given comparator is thread-safe
+ * and the expected JsonNode, if one was given, is not modified afterwards.<br>
+ * An actual JSON given as a {@link JsonParser}, a byte array, a file, an input stream or a reader is streamed:
+ * only the parts which can affect matching are kept in memory, see {@link JsonProjection}.
+ * Such a parser is read entirely, but not closed. Input streams and readers are closed.
+ * Since they cannot be read again, actual JSONs streamed from parsers, input streams and readers are not attached to assertion errors.
+ *
+ * @see JSONCompare#compile(Object, JsonComparator, Set)
+ */
+public final class CompiledExpectation {
+
+    private static final String ASSERTION_ERROR_HINT_MESSAGE = "Json matching is by default case-sensitive and uses regular expressions." + System.lineSeparator() +
+            "In case expected json contains any unintentional regexes, then quote them between \\Q and \\E delimiters.\n" +
+            "For disabling case-sensitivity, use (?i) and (?-i) modifiers. Or, use a custom comparator.";
+    private static final String DIFF_SEPARATOR = "_________________________DIFF__________________________";
+
+    private final ExpectedNode expected;
+    private final JsonComparator comparator;
+    private final Set<CompareMode> compareModes;
+    private final MatchOptions options;
+    private final boolean defaultComparator;
+    private final MatchContext context;
+    // computed on the first streamed actual JSON: concurrent reads may compute it twice, which is harmless since projections are immutable
+    private JsonProjection projection;
+
+    CompiledExpectation(JsonNode expected, JsonComparator comparator, Set<CompareMode> compareModes, MatchOptions options) {
+        this.compareModes = compareModes == null ? Collections.unmodifiableSet(EnumSet.noneOf(CompareMode.class))
+                : Collections.unmodifiableSet(compareModes.isEmpty() ? EnumSet.noneOf(CompareMode.class) : EnumSet.copyOf(compareModes));
+        this.defaultComparator = comparator == null || comparator.getClass().equals(DefaultJsonComparator.class);
+        this.comparator = comparator == null ? new DefaultJsonComparator(this.compareModes) : comparator;
+        this.options = options == null ? MatchOptions.defaults() : options;
+        this.expected = ExpectedNode.of(expected);
+        this.context = MatchContext.of(this.options, this.expected);
+    }
+
+    public List<String> diffs(Object actual) {
+        return diffs(toJson(actual));
+    }
+
+    /**
+     * @return the differences as a structured model, from which {@link #diffs(Object)} renders its messages
+     */
+    public List<JsonDiff> differences(Object actual) {
+        return new JsonMatcher(expected, toJson(actual), comparator, compareModes, context).differences();
+    }
+
+    /**
+     * @return true if the actual JSON matches. Unlike {@link #diffs(Object)}, matching stops at the first difference found.
+     */
+    public boolean matches(Object actual) {
+        return new JsonMatcher(expected, toJson(actual), comparator, compareModes, context).matches();
+    }
+
+    public void assertMatches(Object actual) {
+        assertMatches(actual, null);
+    }
+
+    public void assertMatches(Object actual, String message) {
+        JsonNode actualJson = toJson(actual);
+        List<JsonDiff> diffs = new JsonMatcher(expected, actualJson, comparator, compareModes, context).differences();
+        if (!diffs.isEmpty()) {
+            String defaultMessage = assertionMessage(diffs);
+            assertionFailure(message == null ? defaultMessage : defaultMessage + System.lineSeparator() + message, actual, actualJson)
+                    .buildAndThrow();
+        }
+    }
+
+    /**
+     * Assembles the message inside a single builder, sized from the rendered differences
+     */
+    private String assertionMessage(List<JsonDiff> diffs) {
+        String separator = System.lineSeparator() + System.lineSeparator() + DIFF_SEPARATOR + System.lineSeparator();
+        String hint = defaultComparator ? System.lineSeparator() + System.lineSeparator() + ASSERTION_ERROR_HINT_MESSAGE + System.lineSeparator() : "";
+        int length = 64 + hint.length();
+        long reported = 0;
+        for (JsonDiff diff : diffs) {
+            length += separator.length() + diff.getMessage().length();
+            if (diff.getKind() != JsonDiff.Kind.OMITTED_DIFFERENCES) {
+                reported++;
+            }
+        }
+        StringBuilder sb = new StringBuilder(length).append("FOUND ").append(reported).append(" DIFFERENCE(S):").append(System.lineSeparator());
+        for (JsonDiff diff : diffs) {
+            sb.append(separator).append(diff.getMessage());
+        }
+        return sb.append(System.lineSeparator()).append(hint).toString();
+    }
+
+    public void assertNotMatches(Object actual) {
+        assertNotMatches(actual, null);
+    }
+
+    public void assertNotMatches(Object actual, String message) {
+        JsonNode actualJson = toJson(actual);
+        if (!new JsonMatcher(expected, actualJson, comparator, compareModes, context).matches()) {
+            return;
+        }
+        String defaultMessage = System.lineSeparator() + "JSONs are equal";
+        assertionFailure(message == null ? defaultMessage : defaultMessage + System.lineSeparator() + message, actual, actualJson)
+                .includeValuesInMessage(false).buildAndThrow();
+    }
+
+    /**
+     * Attaches the expected and actual JSONs, cropped. A streamed actual JSON is read only partially,
+     * so it is read again from byte arrays and files, while actual JSONs streamed from parsers, input streams or readers are left out.
+     */
+    private AssertionFailureBuilder assertionFailure(String message, Object actual, JsonNode actualJson) {
+        AssertionFailureBuilder builder = AssertionFailureBuilder.assertionFailure().message(message);
+        boolean streamed = actual instanceof JsonParser || JsonUtils.isJsonSource(actual);
+        if (!streamed || projection().isComplete()) {
+            return builder.expected(MessageUtil.cropL(getExpected())).actual(MessageUtil.cropL(actualJson));
+        }
+        if (actual instanceof byte[] || actual instanceof Path || actual instanceof File) {
+            try (JsonParser parser = JsonUtils.createParser(actual)) {
+                return builder.expected(MessageUtil.cropL(getExpected())).actual(MessageUtil.cropL(parser));
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Invalid JSON%s%s%s", System.lineSeparator(), e, System.lineSeparator()));
+            }
+        }
+        return builder;
+    }
+
+    public JsonNode getExpected() {
+        return expected.getNode();
+    }
+
+    public JsonComparator getComparator() {
+        return comparator;
+    }
+
+    public Set<CompareMode> getCompareModes() {
+        return compareModes;
+    }
+
+    public MatchOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Reads the actual JSON from the given parser, keeping only the parts which can affect its matching against this expectation.
+     */
+    public JsonNode read(JsonParser actual) {
+        try {
+            return projection().read(actual);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Invalid JSON%s%s%s", System.lineSeparator(), e, System.lineSeparator()));
+        }
+    }
+
+    private JsonProjection projection() {
+        if (projection == null) {
+            projection = JsonProjection.of(expected, comparator, compareModes, options);
+        }
+        return projection;
+    }
+
+    private JsonNode toJson(Object actual) {
+        if (actual instanceof JsonParser) {
+            return read((JsonParser) actual);
+        } else if (JsonUtils.isJsonSource(actual)) {
+            try (JsonParser parser = JsonUtils.createParser(actual)) {
+                return read(parser);
+            } catch (IOException e) {
+                throw new RuntimeException(String.format("Invalid JSON%s%s%s", System.lineSeparator(), e, System.lineSeparator()));
+            }
+        }
+        return JSONCompare.toJson(actual);
+    }
+
+    private List<String> diffs(JsonNode actualJson) {
+        return new JsonMatcher(expected, actualJson, comparator, compareModes, context).match();
+    }
+}
@@ -1,40 +1,60 @@
 package io.json.compare;
 
+import io.json.compare.util.PatternCache;
+import io.json.compare.util.RegexUtils;
+
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 public class DefaultJsonComparator implements JsonComparator {
 
+    public static final String PATTERN_CACHE_SIZE_PROPERTY = "json.compare.pattern.cache.size";
+
+    private static final PatternCache SHARED_PATTERN_CACHE =
+            new PatternCache(Integer.getInteger(PATTERN_CACHE_SIZE_PROPERTY, PatternCache.DEFAULT_MAX_SIZE));
+
     private final Set<CompareMode> compareModes;
+    private final PatternCache patternCache;
 
     public DefaultJsonComparator(Set<CompareMode> compareModes) {
+        this(compareModes, SHARED_PATTERN_CACHE);
+    }
+
+    public DefaultJsonComparator(Set<CompareMode> compareModes, PatternCache patternCache) {
         this.compareModes = compareModes;
+        this.patternCache = patternCache;
     }
 
     public boolean compareValues(Object expected, Object actual) {
-        if (compareModes != null && compareModes.contains(CompareMode.REGEX_DISABLED)) {
-            return expected.toString().equals(actual.toString());
-        } else {
-            try {
-                Pattern pattern = Pattern.compile(expected.toString(), Pattern.DOTALL | Pattern.MULTILINE);
-                return pattern.matcher(actual.toString()).matches();
-            } catch (PatternSyntaxException e) {
-                return expected.toString().equals(actual.toString());
-            }
-        }
+        return compare(expected.toString(), actual.toString());
     }
 
     public boolean compareFields(String expected, String actual) {
-        if (compareModes != null && compareModes.contains(CompareMode.REGEX_DISABLED)) {
-            return expected.equals(actual);
-        } else {
-            try {
-                Pattern pattern = Pattern.compile(expected, Pattern.DOTALL | Pattern.MULTILINE);
-                return pattern.matcher(actual).matches();
-            } catch (PatternSyntaxException e) {
-                return expected.equals(actual);
-            }
+        return compare(expected, actual);
+    }
+
+    /**
+     * @return the only text matched by the given expected field or value, or null if it may match other texts as well
+     */
+    public String literalOf(String expected) {
+        return isRegexDisabled() ? expected : RegexUtils.literalOf(expected);
+    }
+
+    private boolean compare(String expected, String actual) {
+        String literal = literalOf(expected);
+        if (literal != null) {
+            return literal.equals(actual);
         }
+        Optional<Pattern> pattern = patternCache.get(expected);
+        return pattern.isPresent() ? pattern.get().matcher(actual).matches() : expected.equals(actual);
+    }
+
+    public boolean isRegexDisabled() {
+        return compareModes != null && compareModes.contains(CompareMode.REGEX_DISABLED);
+    }
+
+    public static PatternCache sharedPatternCache() {
+        return SHARED_PATTERN_CACHE;
     }
 }
@@ -1,9 +1,8 @@
 package io.json.compare;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import io.json.compare.matcher.JsonMatcher;
+import io.json.compare.matcher.JsonDiff;
 import io.json.compare.util.JsonUtils;
-import org.junit.jupiter.api.AssertionFailureBuilder;
 
 import java.io.IOException;
 import java.util.List;
@@ -19,10 +18,6 @@ public class JSONCompare {
     private JSONCompare() {
     }
 
-    private static final String ASSERTION_ERROR_HINT_MESSAGE = "Json matching is by default case-sensitive and uses regular expressions." + System.lineSeparator() +
-            "In case expected json contains any unintentional regexes, then quote them between \\Q and \\E delimiters.\n" +
-            "For disabling case-sensitivity, use (?i) and (?-i) modifiers. Or, use a custom comparator.";
-
     public static void assertMatches(Object expected, Object actual) {
         assertMatches(expected, actual, null, null, null);
     }
@@ -64,35 +59,11 @@ public class JSONCompare {
     }
 
     public static void assertMatches(Object expected, Object actual, JsonComparator comparator, Set<CompareMode> compareModes, String message) {
-        JsonNode expectedJson = toJson(expected);
-        JsonNode actualJson = toJson(actual);
-        List<String> diffs = new JsonMatcher(expectedJson, actualJson,
-                comparator == null ? new DefaultJsonComparator(compareModes) : comparator, compareModes).match();
-        if (!diffs.isEmpty()) {
-            String defaultMessage = String.format("FOUND %s DIFFERENCE(S):%s%s%s",
-                    diffs.size(), System.lineSeparator(), diffs.stream().map(diff ->
-                            System.lineSeparator() + System.lineSeparator() + "_________________________DIFF__________________________" +
-                                    System.lineSeparator() + diff).reduce(String::concat).get(), System.lineSeparator());
-            if (comparator == null || comparator.getClass().equals(DefaultJsonComparator.class)) {
-                defaultMessage += System.lineSeparator() + System.lineSeparator() + ASSERTION_ERROR_HINT_MESSAGE + System.lineSeparator();
-            }
-            AssertionFailureBuilder.assertionFailure().message(message == null ? defaultMessage : defaultMessage + System.lineSeparator() + message)
-                    .expected(prettyPrint(expectedJson)).actual(prettyPrint(actualJson)).buildAndThrow();
-        }
+        compile(expected, comparator, compareModes).assertMatches(actual, message);
     }
 
     public static void assertNotMatches(Object expected, Object actual, JsonComparator comparator, Set<CompareMode> compareModes, String message) {
-        JsonNode expectedJson = toJson(expected);
-        JsonNode actualJson = toJson(actual);
-        List<String> diffs = new JsonMatcher(expectedJson, actualJson,
-                comparator == null ? new DefaultJsonComparator(compareModes) : comparator, compareModes).match();
-        if (!diffs.isEmpty()) {
-            return;
-        }
-        String defaultMessage = System.lineSeparator() + "JSONs are equal";
-        AssertionFailureBuilder.assertionFailure().message(message == null ? defaultMessage : defaultMessage + System.lineSeparator() + message)
-                .expected(prettyPrint(expectedJson)).actual(prettyPrint(actualJson))
-                .includeValuesInMessage(false).buildAndThrow();
+        compile(expected, comparator, compareModes).assertNotMatches(actual, message);
     }
 
     public static List<String> diffs(Object expected, Object actual) {
@@ -108,10 +79,65 @@ public class JSONCompare {
     }
 
     public static List<String> diffs(Object expected, Object actual, JsonComparator comparator, Set<CompareMode> compareModes) {
-        JsonNode expectedJson = toJson(expected);
-        JsonNode actualJson = toJson(actual);
-        return new JsonMatcher(expectedJson, actualJson,
-                comparator == null ? new DefaultJsonComparator(compareModes) : comparator, compareModes).match();
+        return compile(expected, comparator, compareModes).diffs(actual);
+    }
+
+    public static List<JsonDiff> differences(Object expected, Object actual) {
+        return differences(expected, actual, null, null);
+    }
+
+    /**
+     * @return the differences as a structured model. Each difference has a kind, a path of expected field names,
+     * the expected and actual nodes it refers to and the differences it was caused by, while its message is rendered only when requested.
+     */
+    public static List<JsonDiff> differences(Object expected, Object actual, JsonComparator comparator, Set<CompareMode> compareModes) {
+        return compile(expected, comparator, compareModes).differences(actual);
+    }
+
+    public static boolean matches(Object expected, Object actual) {
+        return matches(expected, actual, null, null);
+    }
+
+    public static boolean matches(Object expected, Object actual, Set<CompareMode> compareModes) {
+        return matches(expected, actual, null, compareModes);
+    }
+
+    public static boolean matches(Object expected, Object actual, JsonComparator comparator) {
+        return matches(expected, actual, comparator, null);
+    }
+
+    /**
+     * @return true if the JSONs match. Unlike {@link #diffs(Object, Object, JsonComparator, Set)},
+     * matching stops at the first difference found.
+     */
+    public static boolean matches(Object expected, Object actual, JsonComparator comparator, Set<CompareMode> compareModes) {
+        return compile(expected, comparator, compareModes).matches(actual);
+    }
+
+    public static CompiledExpectation compile(Object expected) {
+        return compile(expected, null, null);
+    }
+
+    public static CompiledExpectation compile(Object expected, Set<CompareMode> compareModes) {
+        return compile(expected, null, compareModes);
+    }
+
+    public static CompiledExpectation compile(Object expected, JsonComparator comparator) {
+        return compile(expected, comparator, null);
+    }
+
+    /**
+     * Parses and analyzes the expected JSON once, for matching it repeatedly against different actual JSONs.
+     */
+    public static CompiledExpectation compile(Object expected, JsonComparator comparator, Set<CompareMode> compareModes) {
+        return compile(expected, comparator, compareModes, null);
+    }
+
+    /**
+     * @param options settings which are not part of the compare modes, such as parallel matching of large arrays
+     */
+    public static CompiledExpectation compile(Object expected, JsonComparator comparator, Set<CompareMode> compareModes, MatchOptions options) {
+        return new CompiledExpectation(toJson(expected), comparator, compareModes, options);
     }
 
     public static String prettyPrint(JsonNode jsonNode) {
@@ -122,7 +148,7 @@ public class JSONCompare {
         }
     }
 
-    private static JsonNode toJson(Object obj) {
+    static JsonNode toJson(Object obj) {
         try {
             return JsonUtils.toJson(obj);
         } catch (IOException e) {
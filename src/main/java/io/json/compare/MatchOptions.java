@@ -0,0 +1,161 @@
+package io.json.compare;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Matching settings which are not part of the {@link CompareMode}s.<br>
+ * Instances are immutable: each <code>with</code> method returns a copy having the given setting changed.
+ *
+ * @see JSONCompare#compile(Object, JsonComparator, Set, MatchOptions)
+ */
+public final class MatchOptions {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1000;
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final MatchOptions DEFAULTS = new MatchOptions(null, DEFAULT_PARALLEL_THRESHOLD,
+            Collections.emptyList(), Collections.emptyMap(), UNLIMITED, UNLIMITED);
+
+    private final Executor executor;
+    private final int parallelThreshold;
+    private final List<String> arrayKeys;
+    private final Map<String, List<String>> arrayKeysByPath;
+    private final int maxDiffs;
+    private final int maxMessageSize;
+
+    private MatchOptions(Executor executor, int parallelThreshold, List<String> arrayKeys, Map<String, List<String>> arrayKeysByPath,
+                         int maxDiffs, int maxMessageSize) {
+        this.executor = executor;
+        this.parallelThreshold = parallelThreshold;
+        this.arrayKeys = arrayKeys;
+        this.arrayKeysByPath = arrayKeysByPath;
+        this.maxDiffs = maxDiffs;
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    /**
+     * @return sequential matching
+     */
+    public static MatchOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Same as {@link #withParallelism(Executor, int)}, with the {@link #DEFAULT_PARALLEL_THRESHOLD}
+     */
+    public MatchOptions withParallelism(Executor executor) {
+        return withParallelism(executor, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Elements of unordered JSON arrays having at least <code>threshold</code> actual elements are matched in parallel,
+     * on the given executor (e.g. a {@link java.util.concurrent.ForkJoinPool}).
+     * The differences are the same as for sequential matching.<br>
+     * The comparator must be thread-safe.
+     *
+     * @param executor null for sequential matching
+     */
+    public MatchOptions withParallelism(Executor executor, int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Parallel threshold cannot be negative: " + threshold);
+        }
+        return new MatchOptions(executor, threshold, arrayKeys, arrayKeysByPath, maxDiffs, maxMessageSize);
+    }
+
+    /**
+     * Elements of unordered JSON arrays are joined by the values of the given key fields, instead of being searched
+     * through the whole actual array: an expected object having all the key fields with literal values is only
+     * matched with the actual objects having the same key values.<br>
+     * Differences then refer to the key of the element, e.g. an element with a missing key,
+     * or which differs from the actual element having the same key.<br>
+     * Applies only with the default comparator. Expected elements without literal key values are matched as usual.
+     *
+     * @param keyFields names of the fields which together identify an array element, e.g. "id"; none to disable
+     */
+    public MatchOptions withArrayKeys(String... keyFields) {
+        return new MatchOptions(executor, parallelThreshold, keyList(keyFields), arrayKeysByPath, maxDiffs, maxMessageSize);
+    }
+
+    /**
+     * Same as {@link #withArrayKeys(String...)}, only for the expected JSON arrays found at the given path,
+     * which takes precedence over the keys set for all arrays.<br>
+     * The path starts with <code>$</code>, followed by <code>.field</code> for object fields
+     * and by <code>[*]</code> for array elements, e.g. <code>$.orders[*].items</code>.
+     */
+    public MatchOptions withArrayKeysAt(String arrayPath, String... keyFields) {
+        if (arrayPath == null || !arrayPath.startsWith("$")) {
+            throw new IllegalArgumentException("Array path must start with '$': " + arrayPath);
+        }
+        Map<String, List<String>> keysByPath = new LinkedHashMap<>(arrayKeysByPath);
+        keysByPath.put(arrayPath, keyList(keyFields));
+        return new MatchOptions(executor, parallelThreshold, arrayKeys, Collections.unmodifiableMap(keysByPath), maxDiffs, maxMessageSize);
+    }
+
+    /**
+     * Matching stops exploring the JSONs once more than the given number of differences is found, and only that many differences are reported,
+     * followed by "Further differences omitted, matching stopped after more than N difference(s)".
+     * Since matching stops early, the omitted differences are not counted.
+     *
+     * @param maxDiffs at least 1, or {@link #UNLIMITED}
+     */
+    public MatchOptions withMaxDiffs(int maxDiffs) {
+        if (maxDiffs < 1) {
+            throw new IllegalArgumentException("Maximum number of differences must be positive: " + maxDiffs);
+        }
+        return new MatchOptions(executor, parallelThreshold, arrayKeys, arrayKeysByPath, maxDiffs, maxMessageSize);
+    }
+
+    /**
+     * Differences are reported only while the total length of their messages does not exceed the given size,
+     * followed by a summary of the omitted ones, e.g. "5 more difference(s) omitted, out of 8". The first difference is always reported.<br>
+     * Messages are rendered only once matching is complete, so this budget does not stop matching early: combine it with
+     * {@link #withMaxDiffs(int)} for that.
+     *
+     * @param maxMessageSize at least 1, or {@link #UNLIMITED}
+     */
+    public MatchOptions withMaxMessageSize(int maxMessageSize) {
+        if (maxMessageSize < 1) {
+            throw new IllegalArgumentException("Maximum message size must be positive: " + maxMessageSize);
+        }
+        return new MatchOptions(executor, parallelThreshold, arrayKeys, arrayKeysByPath, maxDiffs, maxMessageSize);
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public List<String> getArrayKeys() {
+        return arrayKeys;
+    }
+
+    public Map<String, List<String>> getArrayKeysByPath() {
+        return arrayKeysByPath;
+    }
+
+    public int getMaxDiffs() {
+        return maxDiffs;
+    }
+
+    public int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    private static List<String> keyList(String... keyFields) {
+        for (String keyField : keyFields) {
+            if (keyField == null) {
+                throw new IllegalArgumentException("Array key field cannot be null");
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(keyFields.clone()));
+    }
+}
@@ -5,6 +5,8 @@ import io.json.compare.CompareMode;
 import io.json.compare.DefaultJsonComparator;
 import io.json.compare.JsonComparator;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -17,18 +19,45 @@ public abstract class AbstractJsonMatcher {
     protected static final String JSON_PATH_EXP_SUFFIX = ")";
 
     protected final JsonComparator comparator;
+    protected final DefaultJsonComparator defaultComparator;
+    final Literals literals;
     protected final Set<CompareMode> compareModes;
+    protected final ExpectedNode expectedNode;
     protected final JsonNode expected;
     protected final JsonNode actual;
+    final MatchContext context;
 
-    AbstractJsonMatcher(JsonNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes) {
-        this.expected = expected;
+    AbstractJsonMatcher(ExpectedNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes, MatchContext context) {
+        this.context = context;
+        this.expectedNode = expected;
+        this.expected = expected.getNode();
         this.actual = actual;
         this.compareModes = compareModes == null ? new HashSet<>() : compareModes;
         this.comparator = comparator == null ? new DefaultJsonComparator(this.compareModes) : comparator;
+        this.defaultComparator = this.comparator.getClass().equals(DefaultJsonComparator.class) ? (DefaultJsonComparator) this.comparator : null;
+        this.literals = Literals.of(defaultComparator);
     }
 
-    protected abstract List<String> match();
+    /**
+     * @return the differences, as a structured model whose messages are rendered only when requested
+     */
+    public List<JsonDiff> differences() {
+        return Collections.unmodifiableList(context.withinBudget(diffs()));
+    }
+
+    public List<String> match() {
+        List<JsonDiff> diffs = context.withinBudget(diffs());
+        List<String> messages = new ArrayList<>(diffs.size());
+        for (JsonDiff diff : diffs) {
+            messages.add(diff.getMessage());
+        }
+        return messages;
+    }
+
+    /**
+     * @return the differences, whose messages are not yet rendered
+     */
+    abstract List<JsonDiff> diffs();
 
     protected static UseCase getUseCase(JsonNode node) {
         if (node.isTextual()) {
@@ -48,7 +77,8 @@ public abstract class AbstractJsonMatcher {
     }
 
     protected static String sanitize(String value) {
-        if (getUseCase(value) == UseCase.DO_NOT_MATCH || getUseCase(value) == UseCase.DO_NOT_MATCH_ANY) {
+        UseCase useCase = getUseCase(value);
+        if (useCase == UseCase.DO_NOT_MATCH || useCase == UseCase.DO_NOT_MATCH_ANY) {
             return value.substring(1);
         }
         return removeEscapes(value);
@@ -61,28 +91,6 @@ public abstract class AbstractJsonMatcher {
         return Optional.empty();
     }
 
-    protected static int getDoNotMatchUseCases(JsonNode jsonNode) {
-        int count = 0;
-        if (jsonNode.isArray()) {
-            for (int i = 0; i < jsonNode.size(); i++) {
-                if (getUseCase(jsonNode.get(i)).equals(UseCase.DO_NOT_MATCH_ANY) ||
-                        getUseCase(jsonNode.get(i)).equals(UseCase.DO_NOT_MATCH) || isJsonPathNode(jsonNode.get(i))) {
-                    count++;
-                }
-            }
-        } else if (jsonNode.isObject()) {
-            Iterator<String> it = jsonNode.fieldNames();
-            while (it.hasNext()) {
-                String field = it.next();
-                if (getUseCase(field).equals(UseCase.DO_NOT_MATCH_ANY) || getUseCase(field).equals(UseCase.DO_NOT_MATCH)
-                        || extractJsonPathExp(field).isPresent()) {
-                    count++;
-                }
-            }
-        }
-        return count;
-    }
-
     private static String removeEscapes(String value) {
         if (value == null) {
             return null;
@@ -127,9 +135,13 @@ public abstract class AbstractJsonMatcher {
         return jsonNode != null && jsonNode.isMissingNode();
     }
 
-    protected static boolean areOfSameType(JsonNode expNode, JsonNode actNode) {
-        return (isValueNode(expNode) & isValueNode(actNode)) || (isJsonObject(expNode) & isJsonObject(actNode))
-                || (isJsonArray(expNode) & isJsonArray(actNode) || isJsonPathNode(expNode));
+    /**
+     * @return true if both nodes are values, objects or arrays, or if the expected node is a json path node, which matches any actual node
+     */
+    static boolean areOfSameType(ExpectedNode expNode, JsonNode actNode) {
+        JsonNode node = expNode.getNode();
+        return (node.isValueNode() && isValueNode(actNode)) || (node.isObject() && isJsonObject(actNode))
+                || (node.isArray() && isJsonArray(actNode)) || expNode.isJsonPathNode();
     }
 
     protected enum UseCase {
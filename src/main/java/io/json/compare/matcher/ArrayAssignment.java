@@ -0,0 +1,129 @@
+package io.json.compare.matcher;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.IntFunction;
+
+/**
+ * Maximum bipartite matching (Hopcroft–Karp) between expected and actual array elements.<br>
+ * Compatible actual positions of an expected element are computed lazily, only when the search reaches that element,
+ * so the matchers are run only for the expected elements involved in some augmenting path.<br>
+ * The search starts from an initial partial assignment, which is only changed along augmenting paths:
+ * an expected element which is assigned stays assigned, possibly to another actual position.
+ */
+final class ArrayAssignment {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final IntFunction<int[]> compatiblePositions;
+    private final int[][] adjacency;
+    private final int[] positionOf;
+    private final int[] elementAt;
+    private final int[] distance;
+    private final int[] next;
+
+    /**
+     * @param positionOf          initial actual position of each expected element, or -1 if unassigned
+     * @param actualSize          number of actual elements
+     * @param compatiblePositions ascending actual positions the given expected element matches
+     */
+    ArrayAssignment(int[] positionOf, int actualSize, IntFunction<int[]> compatiblePositions) {
+        this.compatiblePositions = compatiblePositions;
+        this.adjacency = new int[positionOf.length][];
+        this.positionOf = positionOf.clone();
+        this.elementAt = new int[actualSize];
+        Arrays.fill(elementAt, -1);
+        for (int i = 0; i < positionOf.length; i++) {
+            if (positionOf[i] >= 0) {
+                elementAt[positionOf[i]] = i;
+            }
+        }
+        this.distance = new int[positionOf.length];
+        this.next = new int[positionOf.length];
+    }
+
+    /**
+     * @return the actual position of each expected element, or -1 for the expected elements which cannot be assigned
+     */
+    int[] solve() {
+        while (layer()) {
+            Arrays.fill(next, 0);
+            for (int i = 0; i < positionOf.length; i++) {
+                if (positionOf[i] < 0) {
+                    augment(i);
+                }
+            }
+        }
+        return positionOf;
+    }
+
+    private int[] adjacency(int element) {
+        if (adjacency[element] == null) {
+            adjacency[element] = compatiblePositions.apply(element);
+        }
+        return adjacency[element];
+    }
+
+    /**
+     * Breadth first search from all unassigned expected elements, alternating between compatible and assigned positions
+     *
+     * @return true if a free actual position was reached
+     */
+    private boolean layer() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = 0; i < positionOf.length; i++) {
+            if (positionOf[i] < 0) {
+                distance[i] = 0;
+                queue.add(i);
+            } else {
+                distance[i] = INFINITY;
+            }
+        }
+        boolean found = false;
+        while (!queue.isEmpty()) {
+            int element = queue.poll();
+            for (int position : adjacency(element)) {
+                int other = elementAt[position];
+                if (other < 0) {
+                    found = true;
+                } else if (distance[other] == INFINITY) {
+                    distance[other] = distance[element] + 1;
+                    queue.add(other);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Iterative depth first search for an augmenting path along the layers, starting from an unassigned expected element.<br>
+     * Each element on the stack has chosen the position it was reached through, at index next - 1 of its adjacency.
+     */
+    private void augment(int root) {
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            int element = stack.peek();
+            int[] positions = adjacency(element);
+            if (next[element] == positions.length) {
+                distance[element] = INFINITY;
+                stack.pop();
+                continue;
+            }
+            int position = positions[next[element]++];
+            int other = elementAt[position];
+            if (other < 0) {
+                for (int e : stack) {
+                    int p = adjacency[e][next[e] - 1];
+                    positionOf[e] = p;
+                    elementAt[p] = e;
+                }
+                return;
+            }
+            if (distance[other] != INFINITY && distance[other] == distance[element] + 1) {
+                stack.push(other);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Join of the elements of an expected and an actual JSON array by the values of their key fields.<br>
+ * Expected objects having all the key fields with literal names and literal values are keyed.
+ * Actual objects having all the key fields with JSON values are keyed by the text of these values.
+ */
+final class ArrayKeyIndex {
+
+    private final List<String> keyFields;
+    private final List<List<String>> expectedKeys;
+    private final Set<List<String>> expectedKeySet;
+    private final Map<List<String>, List<Integer>> positionsByKey;
+
+    private ArrayKeyIndex(List<String> keyFields, List<List<String>> expectedKeys, JsonNode actualArray) {
+        this.keyFields = keyFields;
+        this.expectedKeys = expectedKeys;
+        this.expectedKeySet = new HashSet<>(expectedKeys);
+        this.positionsByKey = new HashMap<>();
+        for (int j = 0; j < actualArray.size(); j++) {
+            List<String> key = actualKey(actualArray.get(j));
+            if (key != null) {
+                positionsByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(j);
+            }
+        }
+    }
+
+    /**
+     * @return null if there are no key fields, or if no expected element is keyed
+     */
+    static ArrayKeyIndex of(List<String> keyFields, List<ExpectedNode> expElements, JsonNode actualArray,
+                            Literals literals) {
+        if (keyFields.isEmpty()) {
+            return null;
+        }
+        List<List<String>> expectedKeys = new ArrayList<>(expElements.size());
+        boolean keyed = false;
+        for (ExpectedNode expElement : expElements) {
+            List<String> key = expectedKey(keyFields, expElement, literals);
+            keyed |= key != null;
+            expectedKeys.add(key);
+        }
+        return keyed ? new ArrayKeyIndex(keyFields, expectedKeys, actualArray) : null;
+    }
+
+    private static List<String> expectedKey(List<String> keyFields, ExpectedNode expElement, Literals literals) {
+        if (!expElement.getNode().isObject() || expElement.isJsonPathNode()) {
+            return null;
+        }
+        String[] values = new String[keyFields.size()];
+        for (ExpectedNode.Field field : expElement.getFields()) {
+            if (field.getUseCase() != AbstractJsonMatcher.UseCase.MATCH || field.getJsonPathExpression() != null) {
+                continue;
+            }
+            int index = keyFields.indexOf(literals.of(field));
+            ExpectedNode value = field.getValue();
+            if (index < 0 || !value.getNode().isValueNode() || value.getUseCase() != AbstractJsonMatcher.UseCase.MATCH) {
+                continue;
+            }
+            values[index] = literals.of(value);
+        }
+        for (String value : values) {
+            if (value == null) {
+                return null;
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    private List<String> actualKey(JsonNode actElement) {
+        if (!actElement.isObject()) {
+            return null;
+        }
+        String[] values = new String[keyFields.size()];
+        for (int k = 0; k < values.length; k++) {
+            JsonNode value = actElement.get(keyFields.get(k));
+            if (value == null || !value.isValueNode()) {
+                return null;
+            }
+            values[k] = value.asText();
+        }
+        return Arrays.asList(values);
+    }
+
+    /**
+     * @return the key of the expected element, or null if it is not keyed
+     */
+    List<String> expectedKey(int expPosition) {
+        return expectedKeys.get(expPosition);
+    }
+
+    /**
+     * @return ascending positions of the actual elements having the given key
+     */
+    List<Integer> positions(List<String> key) {
+        List<Integer> positions = positionsByKey.get(key);
+        return positions == null ? Collections.emptyList() : positions;
+    }
+
+    /**
+     * @param matchedPositions positions of the actual elements matched by any expected element, which are not unexpected
+     * @return ascending positions of the other actual elements whose key is not the key of any expected element
+     */
+    List<Integer> unexpectedPositions(JsonNode actualArray, BitSet matchedPositions) {
+        List<Integer> positions = new ArrayList<>();
+        for (int j = matchedPositions.nextClearBit(0); j < actualArray.size(); j = matchedPositions.nextClearBit(j + 1)) {
+            List<String> key = actualKey(actualArray.get(j));
+            if (key != null && !expectedKeySet.contains(key)) {
+                positions.add(j);
+            }
+        }
+        return positions;
+    }
+
+    String format(List<String> key) {
+        StringBuilder sb = new StringBuilder();
+        for (int k = 0; k < keyFields.size(); k++) {
+            sb.append(k > 0 ? ", " : "").append(keyFields.get(k)).append('=').append(key.get(k));
+        }
+        return sb.toString();
+    }
+
+    String format(JsonNode actElement) {
+        return format(actualKey(actElement));
+    }
+}
@@ -0,0 +1,172 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.CompareMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cheap, conservative check which rejects actual JSON nodes that can never match an expected node:
+ * different node types, objects missing a required literal field or having a different literal value on it,
+ * containers having too few or too many children.<br>
+ * The node type, size and fields of an actual node are read directly from the Jackson node in O(1),
+ * so no recursive matching is done for rejected candidates.<br>
+ * A candidate accepted by this filter may still not match.
+ */
+final class CandidateFilter {
+
+    private static final CandidateFilter ACCEPT_ALL = new CandidateFilter();
+
+    private final Kind kind;
+    private final int minSize;
+    private final int maxSize;
+    private final ValueRequirement valueRequirement;
+    private final List<FieldRequirement> fieldRequirements;
+
+    private CandidateFilter() {
+        this(Kind.ANY, 0, Integer.MAX_VALUE, null, Collections.emptyList());
+    }
+
+    private CandidateFilter(Kind kind, int minSize, int maxSize, ValueRequirement valueRequirement, List<FieldRequirement> fieldRequirements) {
+        this.kind = kind;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.valueRequirement = valueRequirement;
+        this.fieldRequirements = fieldRequirements;
+    }
+
+    /**
+     * @param literals resolves the only texts matched by the expected field names and values
+     */
+    static CandidateFilter of(ExpectedNode expected, Set<CompareMode> compareModes, Literals literals) {
+        JsonNode node = expected.getNode();
+        if (expected.isJsonPathNode()) {
+            return ACCEPT_ALL;
+        }
+        if (node.isValueNode()) {
+            return new CandidateFilter(Kind.VALUE, 0, Integer.MAX_VALUE, ValueRequirement.of(expected, literals), Collections.emptyList());
+        }
+        if (node.isArray()) {
+            int maxSize = compareModes.contains(CompareMode.JSON_ARRAY_NON_EXTENSIBLE) ?
+                    expected.size() - expected.getDoNotMatchUseCases() : Integer.MAX_VALUE;
+            return new CandidateFilter(Kind.ARRAY, expected.getPositiveChildren(), maxSize, null, Collections.emptyList());
+        }
+        if (node.isObject()) {
+            List<FieldRequirement> fieldRequirements = new ArrayList<>();
+            for (ExpectedNode.Field field : expected.getFields()) {
+                if (field.getJsonPathExpression() != null || !isPositive(field.getUseCase())) {
+                    continue;
+                }
+                String literalName = field.getUseCase() == AbstractJsonMatcher.UseCase.MATCH ? literals.of(field) : null;
+                if (literalName != null) {
+                    fieldRequirements.add(new FieldRequirement(literalName, field.getValue(), literals));
+                }
+            }
+            int maxSize = compareModes.contains(CompareMode.JSON_OBJECT_NON_EXTENSIBLE) ?
+                    expected.size() - expected.getDoNotMatchUseCases() : Integer.MAX_VALUE;
+            return new CandidateFilter(Kind.OBJECT, expected.getPositiveChildren(), maxSize, null, fieldRequirements);
+        }
+        return ACCEPT_ALL;
+    }
+
+    boolean mayMatch(JsonNode actual) {
+        switch (kind) {
+            case VALUE:
+                return valueRequirement.mayMatch(actual);
+            case ARRAY:
+                return actual.isArray() && actual.size() >= minSize && actual.size() <= maxSize;
+            case OBJECT:
+                if (!actual.isObject() || actual.size() < minSize || actual.size() > maxSize) {
+                    return false;
+                }
+                for (FieldRequirement fieldRequirement : fieldRequirements) {
+                    if (!fieldRequirement.mayMatch(actual)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    private static boolean isPositive(AbstractJsonMatcher.UseCase useCase) {
+        return useCase == AbstractJsonMatcher.UseCase.MATCH || useCase == AbstractJsonMatcher.UseCase.MATCH_ANY;
+    }
+
+    private enum Kind {
+        ANY, VALUE, ARRAY, OBJECT
+    }
+
+    /**
+     * Mirrors the type checks of {@link JsonValueMatcher}, plus an equality check for literal expected values
+     */
+    private static final class ValueRequirement {
+
+        private final JsonNode expected;
+        private final String literal;
+
+        private ValueRequirement(JsonNode expected, String literal) {
+            this.expected = expected;
+            this.literal = literal;
+        }
+
+        static ValueRequirement of(ExpectedNode expected, Literals literals) {
+            return new ValueRequirement(expected.getNode(), expected.getUseCase() == AbstractJsonMatcher.UseCase.MATCH ?
+                    literals.of(expected) : null);
+        }
+
+        boolean mayMatch(JsonNode actual) {
+            if (actual == null || !actual.isValueNode()) {
+                return false;
+            }
+            if ((expected.isNull() && !actual.isNull()) || (expected.isNumber() && !actual.isNumber())
+                    || (expected.isBoolean() && !actual.isBoolean()) || (actual.isTextual() && !expected.isTextual())) {
+                return false;
+            }
+            return literal == null || literal.equals(actual.asText());
+        }
+    }
+
+    private static final class FieldRequirement {
+
+        private final String name;
+        private final Kind valueKind;
+        private final ValueRequirement valueRequirement;
+
+        FieldRequirement(String name, ExpectedNode expectedValue, Literals literals) {
+            this.name = name;
+            JsonNode value = expectedValue.getNode();
+            if (expectedValue.isJsonPathNode() || expectedValue.getNodeUseCase() != AbstractJsonMatcher.UseCase.MATCH) {
+                this.valueKind = Kind.ANY;
+                this.valueRequirement = null;
+            } else if (value.isValueNode()) {
+                this.valueKind = Kind.VALUE;
+                this.valueRequirement = ValueRequirement.of(expectedValue, literals);
+            } else {
+                this.valueKind = value.isArray() ? Kind.ARRAY : value.isObject() ? Kind.OBJECT : Kind.ANY;
+                this.valueRequirement = null;
+            }
+        }
+
+        boolean mayMatch(JsonNode actual) {
+            JsonNode actualValue = actual.get(name);
+            if (actualValue == null) {
+                return false;
+            }
+            switch (valueKind) {
+                case VALUE:
+                    return valueRequirement.mayMatch(actualValue);
+                case ARRAY:
+                    return actualValue.isArray();
+                case OBJECT:
+                    return actualValue.isObject();
+                default:
+                    return true;
+            }
+        }
+    }
+}
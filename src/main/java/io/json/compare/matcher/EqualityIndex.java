@@ -0,0 +1,132 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.CompareMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash index of the elements from an actual JSON array.<br>
+ * Expected elements which can only match equal actual elements (no regexes, no use cases, no json path expressions,
+ * non-extensible objects and arrays) are hashed the same way as the actual elements they may match,
+ * so their candidates can be looked up in O(1) instead of being searched through the whole array.<br>
+ * Hashes ignore value types, since an expected text may match an actual number, boolean or null of the same text,
+ * and ignore element order inside arrays. Candidates found through the index still have to be matched.
+ */
+final class EqualityIndex {
+
+    private static final int VALUE = 1;
+    private static final int OBJECT = 2;
+    private static final int ARRAY = 3;
+
+    private final Map<Integer, List<Integer>> positionsByHash;
+
+    EqualityIndex(JsonNode actualArray) {
+        this.positionsByHash = new HashMap<>(actualArray.size() * 4 / 3 + 1);
+        for (int i = 0; i < actualArray.size(); i++) {
+            positionsByHash.computeIfAbsent(hash(actualArray.get(i)), k -> new ArrayList<>(1)).add(i);
+        }
+    }
+
+    /**
+     * @return positions of the actual elements having the given hash, in ascending order
+     */
+    List<Integer> positions(int hash) {
+        List<Integer> positions = positionsByHash.get(hash);
+        return positions == null ? Collections.emptyList() : positions;
+    }
+
+    /**
+     * @return the hash shared by all the actual nodes the expected node may match,
+     * or null if the expected node can match actual nodes which are not equal to it
+     */
+    static Integer hash(ExpectedNode expected, Set<CompareMode> compareModes, Literals literals) {
+        JsonNode node = expected.getNode();
+        if (node.isValueNode()) {
+            if (expected.getUseCase() != AbstractJsonMatcher.UseCase.MATCH) {
+                return null;
+            }
+            String literal = literals.of(expected);
+            return literal == null ? null : valueHash(literal);
+        } else if (node.isObject()) {
+            if (expected.isJsonPathNode() || !compareModes.contains(CompareMode.JSON_OBJECT_NON_EXTENSIBLE)) {
+                return null;
+            }
+            int sum = 0;
+            for (ExpectedNode.Field field : expected.getFields()) {
+                if (field.getUseCase() != AbstractJsonMatcher.UseCase.MATCH || field.getJsonPathExpression() != null) {
+                    return null;
+                }
+                String literalName = literals.of(field);
+                Integer valueHash = literalName == null ? null : hash(field.getValue(), compareModes, literals);
+                if (valueHash == null) {
+                    return null;
+                }
+                sum += mix(literalName.hashCode() * 31 + valueHash);
+            }
+            return containerHash(OBJECT, sum);
+        } else if (node.isArray()) {
+            if (!compareModes.contains(CompareMode.JSON_ARRAY_NON_EXTENSIBLE)) {
+                return null;
+            }
+            int sum = 0;
+            for (ExpectedNode element : expected.getElements()) {
+                Integer elementHash = element.getNodeUseCase() != AbstractJsonMatcher.UseCase.MATCH || element.isJsonPathNode() ?
+                        null : hash(element, compareModes, literals);
+                if (elementHash == null) {
+                    return null;
+                }
+                sum += mix(elementHash);
+            }
+            return containerHash(ARRAY, sum);
+        }
+        return null;
+    }
+
+    static int hash(JsonNode actual) {
+        if (actual.isValueNode()) {
+            return valueHash(actual.asText());
+        } else if (actual.isObject()) {
+            int sum = 0;
+            Iterator<Map.Entry<String, JsonNode>> it = actual.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                sum += mix(entry.getKey().hashCode() * 31 + hash(entry.getValue()));
+            }
+            return containerHash(OBJECT, sum);
+        } else if (actual.isArray()) {
+            int sum = 0;
+            for (JsonNode element : actual) {
+                sum += mix(hash(element));
+            }
+            return containerHash(ARRAY, sum);
+        }
+        return 0;
+    }
+
+    private static int valueHash(String text) {
+        return mix(VALUE * 31 + text.hashCode());
+    }
+
+    private static int containerHash(int type, int childrenHash) {
+        return mix(type * 31 + childrenHash);
+    }
+
+    /**
+     * Spreads the bits of a hash, so that order independent sums of child hashes rarely collide
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
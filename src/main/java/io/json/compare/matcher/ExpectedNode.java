@@ -0,0 +1,239 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import io.json.compare.util.RegexUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, pre-analyzed form of an expected JSON node.<br>
+ * Use cases, sanitized fields and values and their regex literals, json path expressions, DO_NOT_MATCH counts and positive children counts are computed once,
+ * so that the same expected JSON can be matched against any number of actual JSONs, from any number of threads.
+ */
+public final class ExpectedNode {
+
+    private final JsonNode node;
+    private final AbstractJsonMatcher.UseCase useCase;
+    private final AbstractJsonMatcher.UseCase nodeUseCase;
+    private final String sanitizedText;
+    private final String regexLiteral;
+    private final boolean jsonPathNode;
+    private final int doNotMatchUseCases;
+    private final int positiveChildren;
+    private final List<ExpectedNode> elements;
+    private final List<Field> fields;
+    private final JsonPathTrie jsonPathTrie;
+
+    private ExpectedNode(JsonNode node) {
+        this.node = node;
+        this.jsonPathNode = AbstractJsonMatcher.isJsonPathNode(node);
+        if (node.isValueNode()) {
+            String text = node.asText();
+            this.useCase = AbstractJsonMatcher.getUseCase(text);
+            this.sanitizedText = AbstractJsonMatcher.sanitize(text);
+        } else {
+            this.useCase = AbstractJsonMatcher.UseCase.MATCH;
+            this.sanitizedText = null;
+        }
+        this.regexLiteral = sanitizedText == null ? null : RegexUtils.literalOf(sanitizedText);
+        this.nodeUseCase = node.isTextual() ? useCase : AbstractJsonMatcher.UseCase.MATCH;
+        if (node.isArray()) {
+            List<ExpectedNode> elementList = new ArrayList<>(node.size());
+            int count = 0;
+            int positive = 0;
+            for (JsonNode element : node) {
+                ExpectedNode expectedElement = new ExpectedNode(element);
+                if (expectedElement.isNegative() || expectedElement.jsonPathNode) {
+                    count++;
+                } else {
+                    positive++;
+                }
+                elementList.add(expectedElement);
+            }
+            this.elements = Collections.unmodifiableList(elementList);
+            this.fields = Collections.emptyList();
+            this.doNotMatchUseCases = count;
+            this.positiveChildren = positive;
+            this.jsonPathTrie = null;
+        } else if (node.isObject()) {
+            List<Field> fieldList = new ArrayList<>(node.size());
+            int count = 0;
+            int positive = 0;
+            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                Field field = new Field(entry.getKey(), new ExpectedNode(entry.getValue()));
+                if (field.isNegative() || AbstractJsonMatcher.extractJsonPathExp(field.name).isPresent()) {
+                    count++;
+                }
+                if (!field.isNegative() && field.jsonPathExpression == null) {
+                    positive++;
+                }
+                fieldList.add(field);
+            }
+            this.elements = Collections.emptyList();
+            this.fields = Collections.unmodifiableList(fieldList);
+            this.doNotMatchUseCases = count;
+            this.positiveChildren = positive;
+            this.jsonPathTrie = count > 0 ? JsonPathTrie.of(fieldList) : null;
+        } else {
+            this.elements = Collections.emptyList();
+            this.fields = Collections.emptyList();
+            this.doNotMatchUseCases = 0;
+            this.positiveChildren = 0;
+            this.jsonPathTrie = null;
+        }
+    }
+
+    public static ExpectedNode of(JsonNode expected) {
+        return new ExpectedNode(expected);
+    }
+
+    public JsonNode getNode() {
+        return node;
+    }
+
+    /**
+     * Use case of a JSON value, computed from its text representation.
+     * For textual array elements this is also the use case of the element itself.
+     */
+    AbstractJsonMatcher.UseCase getUseCase() {
+        return useCase;
+    }
+
+    /**
+     * Use case of this node as an array element or field value: only textual nodes may carry use case markers.
+     */
+    AbstractJsonMatcher.UseCase getNodeUseCase() {
+        return nodeUseCase;
+    }
+
+    String getSanitizedText() {
+        return sanitizedText;
+    }
+
+    /**
+     * @return the only text matched by the sanitized text as a regex, or null if it may match other texts as well
+     */
+    String getRegexLiteral() {
+        return regexLiteral;
+    }
+
+    boolean isJsonPathNode() {
+        return jsonPathNode;
+    }
+
+    int getDoNotMatchUseCases() {
+        return doNotMatchUseCases;
+    }
+
+    /**
+     * @return number of MATCH and MATCH_ANY elements or fields, which are not json path expressions:
+     * each of them needs a distinct actual element or field
+     */
+    int getPositiveChildren() {
+        return positiveChildren;
+    }
+
+    List<ExpectedNode> getElements() {
+        return elements;
+    }
+
+    List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return the simple json path expressions of the fields, or null if there are none
+     */
+    JsonPathTrie getJsonPathTrie() {
+        return jsonPathTrie;
+    }
+
+    int size() {
+        return node.size();
+    }
+
+    private boolean isNegative() {
+        return nodeUseCase == AbstractJsonMatcher.UseCase.DO_NOT_MATCH || nodeUseCase == AbstractJsonMatcher.UseCase.DO_NOT_MATCH_ANY;
+    }
+
+    static final class Field {
+
+        private final String name;
+        private final AbstractJsonMatcher.UseCase useCase;
+        private final String sanitizedName;
+        private final String regexLiteral;
+        private final String jsonPathExpression;
+        private final JsonPath jsonPath;
+        private final ExpectedNode value;
+
+        private Field(String name, ExpectedNode value) {
+            this.name = name;
+            this.useCase = AbstractJsonMatcher.getUseCase(name);
+            this.sanitizedName = AbstractJsonMatcher.sanitize(name);
+            this.regexLiteral = RegexUtils.literalOf(sanitizedName);
+            Optional<String> jsonPathExp = AbstractJsonMatcher.extractJsonPathExp(sanitizedName);
+            this.jsonPathExpression = jsonPathExp.orElse(null);
+            this.jsonPath = jsonPathExpression == null ? null : compile(jsonPathExpression);
+            this.value = value;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        AbstractJsonMatcher.UseCase getUseCase() {
+            return useCase;
+        }
+
+        String getSanitizedName() {
+            return sanitizedName;
+        }
+
+        /**
+         * @return the only text matched by the sanitized name as a regex, or null if it may match other texts as well
+         */
+        String getRegexLiteral() {
+            return regexLiteral;
+        }
+
+        /**
+         * @return the json path expression, or null if this field is not a json path expression
+         */
+        String getJsonPathExpression() {
+            return jsonPathExpression;
+        }
+
+        /**
+         * @return the compiled json path, or null if this field is not a valid json path expression
+         */
+        JsonPath getJsonPath() {
+            return jsonPath;
+        }
+
+        ExpectedNode getValue() {
+            return value;
+        }
+
+        private boolean isNegative() {
+            return useCase == AbstractJsonMatcher.UseCase.DO_NOT_MATCH || useCase == AbstractJsonMatcher.UseCase.DO_NOT_MATCH_ANY;
+        }
+
+        private static JsonPath compile(String jsonPathExpression) {
+            try {
+                return JsonPath.compile(jsonPathExpression);
+            } catch (InvalidPathException | IllegalArgumentException e) {
+                // keep the original behaviour: the error is raised only when the expression is evaluated
+                return null;
+            }
+        }
+    }
+}
@@ -2,105 +2,543 @@ package io.json.compare.matcher;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.json.compare.CompareMode;
-import io.json.compare.JSONCompare;
 import io.json.compare.JsonComparator;
 import io.json.compare.util.MessageUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
 
 public class JsonArrayMatcher extends AbstractJsonMatcher {
 
-    private final Set<Integer> matchedPositions = new HashSet<>();
+    private final BitSet matchedPositions = new BitSet();
+    private final BitSet keyedPositions = new BitSet();
+    private final Map<Integer, JsonDiff> keyedDiffs = new HashMap<>();
+    // expected elements matching no actual element, set only when the assignment stopped once they exhausted the differences budget
+    private BitSet unassignable;
+    private EqualityIndex equalityIndex;
+    private ArrayKeyIndex keyIndex;
 
     public JsonArrayMatcher(JsonNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes) {
-        super(expected, actual, comparator, compareModes);
+        this(ExpectedNode.of(expected), actual, comparator, compareModes, MatchContext.DEFAULT);
+    }
+
+    JsonArrayMatcher(ExpectedNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes, MatchContext context) {
+        super(expected, actual, comparator, compareModes, context);
     }
 
     @Override
-    public List<String> match() {
-        List<String> diffs = new ArrayList<>();
-
-        for (int i = 0; i < expected.size(); i++) {
-            JsonNode expElement = expected.get(i);
-            UseCase useCase = getUseCase(expElement);
-            if (isJsonPathNode(expElement)) {
-                diffs.addAll(new JsonMatcher(expElement, actual, comparator, compareModes).match());
+    List<JsonDiff> diffs() {
+        List<JsonDiff> diffs = new ArrayList<>();
+        boolean strictOrder = compareModes.contains(CompareMode.JSON_ARRAY_STRICT_ORDER);
+        boolean nonExtensible = compareModes.contains(CompareMode.JSON_ARRAY_NON_EXTENSIBLE);
+        if (context.isFailFast() && nonExtensible && hasExtraElements()) {
+            diffs.add(extraElementsDiff());
+            return diffs;
+        }
+
+        List<ExpectedNode> expElements = expectedNode.getElements();
+        keyIndex = strictOrder ? null : ArrayKeyIndex.of(context.arrayKeys(expectedNode), expElements, actual, literals);
+        int[] positionOf = strictOrder ? null : assignPositions(expElements);
+        BitSet previousPositions = strictOrder ? null : new BitSet(actual.size());
+        for (int i = 0; i < expElements.size(); i++) {
+            if (context.isExhausted(diffs.size())) {
+                return diffs;
+            }
+            ExpectedNode expElement = expElements.get(i);
+            UseCase useCase = expElement.getNodeUseCase();
+            if (expElement.isJsonPathNode()) {
+                diffs.addAll(new JsonMatcher(expElement, actual, comparator, compareModes, context).diffs());
+            } else if (strictOrder) {
+                diffs.addAll(matchWithElementAtSamePosition(i, expElement, useCase));
             } else {
-                diffs.addAll(matchWithJsonArray(i, expElement, useCase, actual));
+                diffs.addAll(matchWithJsonArray(i, expElement, useCase, positionOf, previousPositions));
+            }
+            if (positionOf != null && positionOf[i] >= 0) {
+                previousPositions.set(positionOf[i]);
             }
         }
-        if (compareModes.contains(CompareMode.JSON_ARRAY_NON_EXTENSIBLE) && expected.size() - getDoNotMatchUseCases(expected) < actual.size()) {
-            diffs.add("Actual JSON ARRAY has extra elements");
+        if (nonExtensible && hasExtraElements()) {
+            diffs.addAll(unexpectedKeyDiffs());
         }
         return diffs;
     }
 
-    private List<String> matchWithJsonArray(int expPosition, JsonNode expElement, UseCase useCase, JsonNode actualArray) {
-        List<String> diffs = new ArrayList<>();
-
-        for (int j = 0; j < actualArray.size(); j++) {
-            if (matchedPositions.contains(j)) {
-                continue;
+    /**
+     * @return a difference for each actual element which no expected element matched and having a key which no expected element has,
+     * or the extra elements difference if there are no such elements
+     */
+    private List<JsonDiff> unexpectedKeyDiffs() {
+        List<JsonDiff> diffs = new ArrayList<>();
+        if (keyIndex != null) {
+            for (int j : keyIndex.unexpectedPositions(actual, matchedPositions)) {
+                JsonNode actElement = actual.get(j);
+                diffs.add(JsonDiff.of(JsonDiff.Kind.UNEXPECTED_ELEMENTS, null, actElement,
+                        () -> "Actual JSON ARRAY has unexpected element with key " + keyIndex.format(actElement) + ":"
+                        + System.lineSeparator() + MessageUtil.cropL(actElement)));
             }
-            if (compareModes.contains(CompareMode.JSON_ARRAY_STRICT_ORDER)) {
-                if (j < expPosition) {
-                    continue;
-                } else if (j > expPosition) {
-                    break;
+        }
+        if (diffs.isEmpty()) {
+            diffs.add(extraElementsDiff());
+        }
+        return diffs;
+    }
+
+    private boolean hasExtraElements() {
+        return expected.size() - expectedNode.getDoNotMatchUseCases() < actual.size();
+    }
+
+    private JsonDiff extraElementsDiff() {
+        return JsonDiff.of(JsonDiff.Kind.UNEXPECTED_ELEMENTS, null, actual, "Actual JSON ARRAY has extra elements");
+    }
+
+    /**
+     * JSON_ARRAY_STRICT_ORDER: the expected element can only be matched with the actual element from the same position
+     */
+    private List<JsonDiff> matchWithElementAtSamePosition(int expPosition, ExpectedNode expElement, UseCase useCase) {
+        if (expPosition >= actual.size()) {
+            return elementNotFoundDiffs(expPosition, expElement, useCase);
+        }
+        JsonNode actElement = actual.get(expPosition);
+        switch (useCase) {
+            case MATCH:
+                List<JsonDiff> elementDiffs = context.withinChildBudget(
+                        new JsonMatcher(expElement, actElement, comparator, compareModes, context).diffs());
+                if (elementDiffs.isEmpty()) {
+                    return Collections.emptyList();
                 }
+                List<JsonDiff> diffs = new ArrayList<>();
+                diffs.add(JsonDiff.of(JsonDiff.Kind.ELEMENT_MISMATCH, expElement.getNode(), actElement, elementDiffs,
+                        () -> String.format("JSON ARRAY elements differ at position %s:" +
+                                System.lineSeparator() + "%s" + System.lineSeparator() +
+                                "________diffs________" + System.lineSeparator() + "%s", expPosition + 1,
+                        MessageUtil.cropL(expElement.getNode()), elementDiffs.stream().map(JsonDiff::getMessage)
+                                .collect(Collectors.joining(System.lineSeparator() + "_____________________" + System.lineSeparator())))));
+                return diffs;
+            case DO_NOT_MATCH:
+                return matchesNegatedElement(expElement, actElement) ? elementFoundDiffs(expPosition, expElement) : Collections.emptyList();
+            case DO_NOT_MATCH_ANY:
+                return noExtraElementsDiffs(expPosition, expElement);
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Assigns an actual position to each MATCH and MATCH_ANY expected element.<br>
+     * Each expected element is first matched, in order, with the first unmatched actual element it matches.
+     * When some MATCH element remains unmatched, because an earlier expected element took the only actual elements it matches,
+     * the assignment of the MATCH elements is completed into a maximum one and the MATCH_ANY elements take the remaining
+     * actual elements, in order.<br>
+     * An unmatched element was already checked against all the actual elements which were not taken before it,
+     * so only the taken ones are checked again. If it matches none of them, it cannot be matched at all.<br>
+     * For large arrays matched in parallel, all the actual positions matched by each MATCH element are computed up front,
+     * on the executor, and the same assignment is then done from them.<br>
+     * Once the MATCH elements matching no actual element at all, with the keyed elements not matched, exhaust the differences budget,
+     * the assignment stops, since only their differences are reported.<br>
+     * Keyed expected elements are joined the same way with the actual elements having the same key, before all the others,
+     * which are then matched with the remaining actual elements.
+     *
+     * @return the actual position of each expected element, or -1 if it has none
+     */
+    private int[] assignPositions(List<ExpectedNode> expElements) {
+        int[] positionOf = new int[expElements.size()];
+        Arrays.fill(positionOf, -1);
+        if (keyIndex != null && !matchByKey(expElements, positionOf) && context.isFailFast()) {
+            return positionOf;
+        }
+        Executor executor = context.parallelExecutor(actual.size());
+        int[][] compatible = executor != null ? compatiblePositions(expElements, executor) : new int[expElements.size()][];
+        BitSet unmatched = new BitSet();
+        int unmatchedCount = 0;
+        boolean reassignable = false;
+        for (int i = 0; i < expElements.size(); i++) {
+            ExpectedNode expElement = expElements.get(i);
+            if (expElement.isJsonPathNode() || isKeyed(i)) {
+                continue;
             }
-            List<String> elementDiffs;
-            switch (useCase) {
-                case MATCH:
-                    JsonNode actElement = actualArray.get(j);
-                    elementDiffs = new JsonMatcher(expElement, actElement, comparator, compareModes).match();
-                    if (elementDiffs.isEmpty()) {
-                        matchedPositions.add(j);
-                        return Collections.emptyList();
-                    } else {
-                        if (compareModes.contains(CompareMode.JSON_ARRAY_STRICT_ORDER)) {
-                            diffs.add(String.format("JSON ARRAY elements differ at position %s:" +
-                                            System.lineSeparator() + "%s" + System.lineSeparator() +
-                                            "________diffs________" + System.lineSeparator() + "%s", expPosition + 1,
-                                    MessageUtil.cropL(JSONCompare.prettyPrint(expElement)), String.join(
-                                            System.lineSeparator() + "_____________________" + System.lineSeparator(), elementDiffs)));
-                            return diffs;
-                        }
+            UseCase useCase = expElement.getNodeUseCase();
+            if (useCase == UseCase.MATCH) {
+                positionOf[i] = compatible[i] != null ? firstUnmatchedPosition(compatible[i]) : firstMatchingPosition(expElement);
+                if (positionOf[i] < 0) {
+                    if (compatible[i] == null) {
+                        compatible[i] = compatiblePositions(expElement, context.failFast(),
+                                j -> matchedPositions.get(j) && !keyedPositions.get(j));
                     }
-                    break;
-                case MATCH_ANY:
-                    matchedPositions.add(j);
-                    return Collections.emptyList();
-                case DO_NOT_MATCH:
-                    actElement = actualArray.get(j);
-                    if (areOfSameType(expElement, actElement)) {
-                        elementDiffs = new JsonMatcher(expElement, actElement, comparator, compareModes).match();
-                        if (!elementDiffs.isEmpty()) {
-                            diffs.add("Expected element from position " + (expPosition + 1)
-                                    + " was FOUND:" + System.lineSeparator() + MessageUtil.cropL(JSONCompare.prettyPrint(expElement)));
-                            return diffs;
+                    if (compatible[i].length == 0) {
+                        unmatched.set(i);
+                        if (context.isExhausted(keyedDiffs.size() + ++unmatchedCount)) {
+                            unassignable = unmatched;
+                            return positionOf;
                         }
                     }
+                    reassignable |= compatible[i].length > 0;
+                }
+            } else if (useCase == UseCase.MATCH_ANY) {
+                positionOf[i] = firstUnmatchedPosition();
+            }
+            if (positionOf[i] >= 0) {
+                matchedPositions.set(positionOf[i]);
+            }
+        }
+        return reassignable ? maximumAssignment(expElements, positionOf, compatible) : positionOf;
+    }
+
+    private boolean isKeyed(int expPosition) {
+        return keyIndex != null && keyIndex.expectedKey(expPosition) != null;
+    }
+
+    /**
+     * Matches the keyed expected elements with the actual elements having the same key, key by key.
+     *
+     * @return true if all keyed expected elements were matched
+     */
+    private boolean matchByKey(List<ExpectedNode> expElements, int[] positionOf) {
+        Map<List<String>, List<Integer>> elementsByKey = new LinkedHashMap<>();
+        for (int i = 0; i < expElements.size(); i++) {
+            List<String> key = keyIndex.expectedKey(i);
+            if (key != null) {
+                elementsByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(i);
+            }
+        }
+        boolean matched = true;
+        for (Map.Entry<List<String>, List<Integer>> entry : elementsByKey.entrySet()) {
+            if (!matchByKey(entry.getKey(), entry.getValue(), expElements, positionOf)) {
+                matched = false;
+                if (context.isFailFast()) {
+                    return false;
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Each expected element having the given key is first matched, in order, with the first unmatched actual element
+     * having the same key which it matches. Since actual keys may be duplicated, when some element remains unmatched
+     * because an earlier one took the only actual elements it matches, the assignment is completed into a maximum one.
+     *
+     * @return true if all expected elements having the given key were matched
+     */
+    private boolean matchByKey(List<String> key, List<Integer> elements, List<ExpectedNode> expElements, int[] positionOf) {
+        List<Integer> positions = keyIndex.positions(key);
+        int[][] compatible = new int[elements.size()][];
+        boolean reassignable = false;
+        for (int k = 0; k < elements.size(); k++) {
+            int i = elements.get(k);
+            for (int j : positions) {
+                if (!matchedPositions.get(j) && matchesKeyed(expElements.get(i), j)) {
+                    positionOf[i] = j;
+                    matchedPositions.set(j);
+                    break;
+                }
+            }
+            if (positionOf[i] < 0) {
+                compatible[k] = keyedPositions(expElements.get(i), positions, matchedPositions::get);
+                if (compatible[k].length == 0 && context.isFailFast()) {
+                    return false;
+                }
+                reassignable |= compatible[k].length > 0;
+            }
+        }
+        if (reassignable) {
+            int[] initial = new int[elements.size()];
+            for (int k = 0; k < initial.length; k++) {
+                initial[k] = positionOf[elements.get(k)];
+                if (initial[k] >= 0) {
+                    matchedPositions.clear(initial[k]);
+                }
+            }
+            int[] assigned = new ArrayAssignment(initial, actual.size(), k -> {
+                if (compatible[k] == null) {
+                    compatible[k] = keyedPositions(expElements.get(elements.get(k)), positions, j -> true);
+                }
+                return compatible[k];
+            }).solve();
+            for (int k = 0; k < assigned.length; k++) {
+                positionOf[elements.get(k)] = assigned[k];
+                if (assigned[k] >= 0) {
+                    matchedPositions.set(assigned[k]);
+                }
+            }
+        }
+        boolean matched = true;
+        for (int i : elements) {
+            if (positionOf[i] >= 0) {
+                keyedPositions.set(positionOf[i]);
+                continue;
+            }
+            int candidate = -1;
+            for (int j : positions) {
+                if (!matchedPositions.get(j)) {
+                    candidate = j;
                     break;
-                case DO_NOT_MATCH_ANY:
-                    if (expected.size() - getDoNotMatchUseCases(expected) < actual.size()) {
-                        diffs.add(String.format("Expected condition %s from position %s was not met." +
-                                        " Actual JSON ARRAY has extra elements",
-                                expElement, expPosition + 1));
+                }
+            }
+            ExpectedNode expElement = expElements.get(i);
+            keyedDiffs.put(i, candidate < 0 ? keyNotFoundDiff(i, expElement, key) : keyDiffersDiff(i, expElement, key, candidate));
+            matched = false;
+        }
+        return matched;
+    }
+
+    /**
+     * @return ascending positions of the actual elements, among the given ones having the same key, matched by the expected element
+     */
+    private int[] keyedPositions(ExpectedNode expElement, List<Integer> positions, IntPredicate candidatePositions) {
+        int[] compatible = new int[positions.size()];
+        int count = 0;
+        for (int j : positions) {
+            if (candidatePositions.test(j) && matchesKeyed(expElement, j)) {
+                compatible[count++] = j;
+            }
+        }
+        return Arrays.copyOf(compatible, count);
+    }
+
+    private boolean matchesKeyed(ExpectedNode expElement, int position) {
+        return new JsonMatcher(expElement, actual.get(position), comparator, compareModes, context.failFast()).diffs().isEmpty();
+    }
+
+    private JsonDiff keyNotFoundDiff(int expPosition, ExpectedNode expElement, List<String> key) {
+        return JsonDiff.of(JsonDiff.Kind.ELEMENT_NOT_FOUND, expElement.getNode(), null,
+                () -> System.lineSeparator() + "Expected element from position " + (expPosition + 1) + " with key "
+                + keyIndex.format(key) + " was NOT FOUND:" + System.lineSeparator() + MessageUtil.cropL(expElement.getNode()));
+    }
+
+    private JsonDiff keyDiffersDiff(int expPosition, ExpectedNode expElement, List<String> key, int actPosition) {
+        List<JsonDiff> elementDiffs = context.isFailFast() ? Collections.emptyList()
+                : context.withinChildBudget(new JsonMatcher(expElement, actual.get(actPosition), comparator, compareModes, context).diffs());
+        return JsonDiff.of(JsonDiff.Kind.ELEMENT_MISMATCH, expElement.getNode(), actual.get(actPosition), elementDiffs,
+                () -> String.format("Expected element from position %s with key %s differs from actual element at position %s:" +
+                        System.lineSeparator() + "%s" + System.lineSeparator() +
+                        "________diffs________" + System.lineSeparator() + "%s", expPosition + 1, keyIndex.format(key), actPosition + 1,
+                MessageUtil.cropL(expElement.getNode()), elementDiffs.stream().map(JsonDiff::getMessage)
+                        .collect(Collectors.joining(System.lineSeparator() + "_____________________" + System.lineSeparator()))));
+    }
+
+    private int[][] compatiblePositions(List<ExpectedNode> expElements, Executor executor) {
+        equalityIndex();
+        int[][] compatible = new int[expElements.size()][];
+        int chunkSize = Math.max(1, expElements.size() / (Runtime.getRuntime().availableProcessors() * 4));
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        MatchContext taskContext = context.sequential().failFast();
+        for (int from = 0; from < expElements.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, expElements.size());
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int i = start; i < end; i++) {
+                    ExpectedNode expElement = expElements.get(i);
+                    if (!expElement.isJsonPathNode() && !isKeyed(i) && expElement.getNodeUseCase() == UseCase.MATCH) {
+                        compatible[i] = compatiblePositions(expElement, taskContext, j -> !keyedPositions.get(j));
                     }
-                    return diffs;
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return compatible;
+    }
+
+    private int firstUnmatchedPosition(int[] positions) {
+        for (int j : positions) {
+            if (!matchedPositions.get(j)) {
+                return j;
             }
         }
+        return -1;
+    }
+
+    private int firstMatchingPosition(ExpectedNode expElement) {
+        CandidateFilter candidateFilter = CandidateFilter.of(expElement, compareModes, literals);
+        Integer hash = EqualityIndex.hash(expElement, compareModes, literals);
+        if (hash != null) {
+            for (int j : equalityIndex().positions(hash)) {
+                if (!matchedPositions.get(j) && matches(expElement, candidateFilter, j, context.failFast())) {
+                    return j;
+                }
+            }
+            return -1;
+        }
+        for (int j = matchedPositions.nextClearBit(0); j < actual.size(); j = matchedPositions.nextClearBit(j + 1)) {
+            if (matches(expElement, candidateFilter, j, context.failFast())) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    private int firstUnmatchedPosition() {
+        int j = matchedPositions.nextClearBit(0);
+        return j < actual.size() ? j : -1;
+    }
+
+    /**
+     * @param compatible actual positions matched by each expected element, null for the ones not computed yet
+     */
+    private int[] maximumAssignment(List<ExpectedNode> expElements, int[] greedyPositionOf, int[][] compatible) {
+        List<Integer> matchElements = new ArrayList<>();
+        for (int i = 0; i < expElements.size(); i++) {
+            if (!expElements.get(i).isJsonPathNode() && !isKeyed(i) && expElements.get(i).getNodeUseCase() == UseCase.MATCH) {
+                matchElements.add(i);
+            }
+        }
+        int[] initial = new int[matchElements.size()];
+        for (int k = 0; k < initial.length; k++) {
+            initial[k] = greedyPositionOf[matchElements.get(k)];
+        }
+        int[] assigned = new ArrayAssignment(initial, actual.size(), k -> {
+            int i = matchElements.get(k);
+            if (compatible[i] == null) {
+                compatible[i] = compatiblePositions(expElements.get(i), context.failFast(), j -> !keyedPositions.get(j));
+            }
+            return compatible[i];
+        }).solve();
+
+        int[] positionOf = greedyPositionOf.clone();
+        matchedPositions.and(keyedPositions);
+        for (int k = 0; k < assigned.length; k++) {
+            positionOf[matchElements.get(k)] = assigned[k];
+            if (assigned[k] >= 0) {
+                matchedPositions.set(assigned[k]);
+            }
+        }
+        for (int i = 0; i < expElements.size(); i++) {
+            if (!expElements.get(i).isJsonPathNode() && expElements.get(i).getNodeUseCase() == UseCase.MATCH_ANY) {
+                positionOf[i] = firstUnmatchedPosition();
+                if (positionOf[i] >= 0) {
+                    matchedPositions.set(positionOf[i]);
+                }
+            }
+        }
+        return positionOf;
+    }
+
+    /**
+     * @return ascending positions of the actual elements, among the given ones, matched by the expected element
+     */
+    private int[] compatiblePositions(ExpectedNode expElement, MatchContext matchContext, IntPredicate candidatePositions) {
+        CandidateFilter candidateFilter = CandidateFilter.of(expElement, compareModes, literals);
+        Integer hash = EqualityIndex.hash(expElement, compareModes, literals);
+        List<Integer> candidates = hash != null ? equalityIndex().positions(hash) : null;
+        int size = candidates != null ? candidates.size() : actual.size();
+        int[] positions = new int[size];
+        int count = 0;
+        for (int k = 0; k < size; k++) {
+            int j = candidates != null ? candidates.get(k) : k;
+            if (candidatePositions.test(j) && matches(expElement, candidateFilter, j, matchContext)) {
+                positions[count++] = j;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    private boolean matches(ExpectedNode expElement, CandidateFilter candidateFilter, int position, MatchContext matchContext) {
+        JsonNode actElement = actual.get(position);
+        return candidateFilter.mayMatch(actElement)
+                && new JsonMatcher(expElement, actElement, comparator, compareModes, matchContext).diffs().isEmpty();
+    }
+
+    private EqualityIndex equalityIndex() {
+        if (equalityIndex == null) {
+            equalityIndex = new EqualityIndex(actual);
+        }
+        return equalityIndex;
+    }
+
+    /**
+     * Reports the expected element against the assigned positions.<br>
+     * A DO_NOT_MATCH element is checked against the actual elements which are not assigned to the expected elements before it.<br>
+     * When the assignment stopped early, only the elements known to be unassignable are reported,
+     * since the positions of the others are not final.
+     *
+     * @param previousPositions actual positions assigned to the expected elements before this one
+     */
+    private List<JsonDiff> matchWithJsonArray(int expPosition, ExpectedNode expElement, UseCase useCase, int[] positionOf,
+                                              BitSet previousPositions) {
+        switch (useCase) {
+            case MATCH:
+            case MATCH_ANY:
+                if (positionOf[expPosition] >= 0) {
+                    return Collections.emptyList();
+                }
+                if (keyedDiffs.containsKey(expPosition)) {
+                    return Collections.singletonList(keyedDiffs.get(expPosition));
+                }
+                return unassignable == null || unassignable.get(expPosition) ? elementNotFoundDiffs(expPosition, expElement, useCase)
+                        : Collections.emptyList();
+            case DO_NOT_MATCH:
+                if (unassignable != null) {
+                    return Collections.emptyList();
+                }
+                for (int j = previousPositions.nextClearBit(0); j < actual.size(); j = previousPositions.nextClearBit(j + 1)) {
+                    if (matchesNegatedElement(expElement, actual.get(j))) {
+                        return elementFoundDiffs(expPosition, expElement);
+                    }
+                }
+                return Collections.emptyList();
+            default:
+                return noExtraElementsDiffs(expPosition, expElement);
+        }
+    }
+
+    /**
+     * @return true if the actual element matches the expected DO_NOT_MATCH element with its negation removed
+     */
+    private boolean matchesNegatedElement(ExpectedNode expElement, JsonNode actElement) {
+        return areOfSameType(expElement, actElement)
+                && !new JsonMatcher(expElement, actElement, comparator, compareModes, context.failFast()).diffs().isEmpty();
+    }
+
+    private List<JsonDiff> elementFoundDiffs(int expPosition, ExpectedNode expElement) {
+        List<JsonDiff> diffs = new ArrayList<>();
+        diffs.add(JsonDiff.of(JsonDiff.Kind.ELEMENT_FOUND, expElement.getNode(), null,
+                () -> "Expected element from position " + (expPosition + 1) + " was FOUND:"
+                        + System.lineSeparator() + MessageUtil.cropL(expElement.getNode())));
+        return diffs;
+    }
+
+    private List<JsonDiff> noExtraElementsDiffs(int expPosition, ExpectedNode expElement) {
+        List<JsonDiff> diffs = new ArrayList<>();
+        if (hasExtraElements()) {
+            diffs.add(JsonDiff.of(JsonDiff.Kind.UNEXPECTED_ELEMENTS, expElement.getNode(), actual,
+                    () -> String.format("Expected condition %s from position %s was not met." +
+                            " Actual JSON ARRAY has extra elements",
+                    expElement.getNode(), expPosition + 1)));
+        }
+        return diffs;
+    }
+
+    private List<JsonDiff> elementNotFoundDiffs(int expPosition, ExpectedNode expElement, UseCase useCase) {
+        List<JsonDiff> diffs = new ArrayList<>();
         if (useCase == UseCase.MATCH) {
-            diffs.add(System.lineSeparator() + "Expected element from position " + (expPosition + 1) + " was NOT FOUND:" + System.lineSeparator()
-                    + MessageUtil.cropL(JSONCompare.prettyPrint(expElement)));
+            diffs.add(JsonDiff.of(JsonDiff.Kind.ELEMENT_NOT_FOUND, expElement.getNode(), null,
+                    () -> System.lineSeparator() + "Expected element from position " + (expPosition + 1) + " was NOT FOUND:"
+                    + System.lineSeparator() + MessageUtil.cropL(expElement.getNode())));
         } else if (useCase == UseCase.MATCH_ANY) {
-            diffs.add(String.format("Expected condition %s from position %s was not met." +
-                    " Actual JSON ARRAY has no extra elements", expElement, expPosition + 1));
+            diffs.add(JsonDiff.of(JsonDiff.Kind.ELEMENT_NOT_FOUND, expElement.getNode(), null,
+                    () -> String.format("Expected condition %s from position %s was not met." +
+                    " Actual JSON ARRAY has no extra elements", expElement.getNode(), expPosition + 1)));
         }
         return diffs;
     }
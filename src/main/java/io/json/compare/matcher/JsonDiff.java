@@ -0,0 +1,172 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Difference found while matching, whose message is rendered only when requested.<br>
+ * Most differences are found while searching for matching candidates and are discarded as soon as
+ * another candidate matches, so they are never rendered.<br>
+ * A difference refers to the expected and actual nodes it was found on, without copying them,
+ * and to the differences it was caused by, if any. Differences found inside object fields keep the field names as their path,
+ * instead of being re-rendered with each field name as prefix.
+ */
+public final class JsonDiff {
+
+    public enum Kind {
+        TYPE_MISMATCH,
+        VALUE_MISMATCH,
+        FIELD_NOT_FOUND,
+        FIELD_FOUND,
+        UNEXPECTED_FIELDS,
+        JSON_PATH_NOT_FOUND,
+        JSON_PATH_FOUND,
+        JSON_PATH_MISMATCH,
+        ELEMENT_NOT_FOUND,
+        ELEMENT_FOUND,
+        ELEMENT_MISMATCH,
+        UNEXPECTED_ELEMENTS,
+        /**
+         * Summary of the differences which are not reported because of the differences budget
+         */
+        OMITTED_DIFFERENCES
+    }
+
+    private static final String PATH_SEPARATOR = " -> ";
+
+    private final Kind kind;
+    private final List<String> path;
+    private final JsonNode expected;
+    private final JsonNode actual;
+    private final List<JsonDiff> children;
+    private final LazyMessage description;
+    private String message;
+
+    private JsonDiff(Kind kind, List<String> path, JsonNode expected, JsonNode actual, List<JsonDiff> children, LazyMessage description) {
+        this.kind = kind;
+        this.path = path;
+        this.expected = expected;
+        this.actual = actual;
+        this.children = children;
+        this.description = description;
+    }
+
+    static JsonDiff of(Kind kind, JsonNode expected, JsonNode actual, String message) {
+        return of(kind, expected, actual, Collections.emptyList(), () -> message);
+    }
+
+    static JsonDiff of(Kind kind, JsonNode expected, JsonNode actual, Supplier<String> message) {
+        return of(kind, expected, actual, Collections.emptyList(), message);
+    }
+
+    static JsonDiff of(Kind kind, JsonNode expected, JsonNode actual, List<JsonDiff> children, Supplier<String> message) {
+        return new JsonDiff(kind, Collections.emptyList(), expected, actual, Collections.unmodifiableList(children), new LazyMessage(message));
+    }
+
+    /**
+     * @param maxDiffs number of differences after which matching stopped, so that the other differences were not searched for
+     */
+    static JsonDiff omitted(int maxDiffs) {
+        return of(Kind.OMITTED_DIFFERENCES, null, null, "Further differences omitted, matching stopped after more than " + maxDiffs + " difference(s)");
+    }
+
+    static JsonDiff omitted(int count, int found) {
+        return of(Kind.OMITTED_DIFFERENCES, null, null, count + " more difference(s) omitted, out of " + found);
+    }
+
+    /**
+     * @return this difference, as found inside the given field of the parent object
+     */
+    JsonDiff withParent(String field) {
+        List<String> parentPath = new ArrayList<>(path.size() + 1);
+        parentPath.add(field);
+        parentPath.addAll(path);
+        return new JsonDiff(kind, Collections.unmodifiableList(parentPath), expected, actual, children, description);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the expected field names leading from the matched object to this difference, outermost first
+     */
+    public List<String> getPath() {
+        return path;
+    }
+
+    /**
+     * @return the expected node, or null if this difference is not about a single expected node
+     */
+    public JsonNode getExpected() {
+        return expected;
+    }
+
+    /**
+     * @return the actual node, or null if there is no such node
+     */
+    public JsonNode getActual() {
+        return actual;
+    }
+
+    /**
+     * @return the differences this one was caused by, such as the differences between two array elements
+     */
+    public List<JsonDiff> getChildren() {
+        return children;
+    }
+
+    /**
+     * @return the message of this difference, without its path
+     */
+    public String getDescription() {
+        return description.get();
+    }
+
+    public String getMessage() {
+        if (message == null) {
+            if (path.isEmpty()) {
+                message = description.get();
+            } else {
+                String text = description.get();
+                int length = text.length();
+                for (String field : path) {
+                    length += field.length() + PATH_SEPARATOR.length();
+                }
+                StringBuilder sb = new StringBuilder(length);
+                for (String field : path) {
+                    sb.append(field).append(PATH_SEPARATOR);
+                }
+                message = sb.append(text).toString();
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+
+    private static final class LazyMessage {
+
+        private Supplier<String> supplier;
+        private String text;
+
+        private LazyMessage(Supplier<String> supplier) {
+            this.supplier = supplier;
+        }
+
+        private String get() {
+            if (text == null) {
+                text = supplier.get();
+                supplier = null;
+            }
+            return text;
+        }
+    }
+}
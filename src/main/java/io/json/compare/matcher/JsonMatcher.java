@@ -3,6 +3,7 @@ package io.json.compare.matcher;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.json.compare.CompareMode;
 import io.json.compare.JsonComparator;
+import io.json.compare.MatchOptions;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -12,24 +13,44 @@ import java.util.Set;
 public class JsonMatcher extends AbstractJsonMatcher {
 
     public JsonMatcher(JsonNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes) {
-        super(expected, actual, comparator, compareModes);
+        this(ExpectedNode.of(expected), actual, comparator, compareModes);
+    }
+
+    public JsonMatcher(ExpectedNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes) {
+        this(expected, actual, comparator, compareModes, MatchContext.DEFAULT);
+    }
+
+    public JsonMatcher(ExpectedNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes, MatchOptions options) {
+        this(expected, actual, comparator, compareModes, MatchContext.of(options, expected));
+    }
+
+    public JsonMatcher(ExpectedNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes, MatchContext context) {
+        super(expected, actual, comparator, compareModes, context);
+    }
+
+    /**
+     * @return true if there are no differences. Matching stops at the first difference found.
+     */
+    public boolean matches() {
+        return new JsonMatcher(expectedNode, actual, comparator, compareModes, context.failFast()).diffs().isEmpty();
     }
 
     @Override
-    public List<String> match() {
+    List<JsonDiff> diffs() {
         if (isJsonObject(expected) && isJsonObject(actual)) {
-            return new JsonObjectMatcher(expected, actual, comparator, compareModes).match();
+            return new JsonObjectMatcher(expectedNode, actual, comparator, compareModes, context).diffs();
         } else if (isJsonArray(expected) && isJsonArray(actual)) {
-            return new JsonArrayMatcher(expected, actual, comparator, compareModes).match();
+            return new JsonArrayMatcher(expectedNode, actual, comparator, compareModes, context).diffs();
         } else if (isValueNode(expected) && isValueNode(actual)) {
-            return new JsonValueMatcher(expected, actual, comparator, compareModes).match();
-        } else if (isJsonPathNode(expected)) {
-            return new JsonObjectMatcher(expected, actual, comparator, compareModes).match();
+            return new JsonValueMatcher(expectedNode, actual, comparator, compareModes, context).diffs();
+        } else if (expectedNode.isJsonPathNode()) {
+            return new JsonObjectMatcher(expectedNode, actual, comparator, compareModes, context).diffs();
         } else if (isMissingNode(expected) && isMissingNode(actual)) {
             return Collections.emptyList();
         } else {
-            List<String> diffs = new ArrayList<>();
-            diffs.add("Different JSON types: expected " + expected.getClass().getSimpleName() + " but got " + actual.getClass().getSimpleName());
+            List<JsonDiff> diffs = new ArrayList<>();
+            diffs.add(JsonDiff.of(JsonDiff.Kind.TYPE_MISMATCH, expected, actual, () -> "Different JSON types: expected " + expected.getClass().getSimpleName()
+                    + " but got " + actual.getClass().getSimpleName()));
             return diffs;
         }
     }
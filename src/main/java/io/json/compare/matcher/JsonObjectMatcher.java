@@ -1,91 +1,142 @@
 package io.json.compare.matcher;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.PathNotFoundException;
 import io.json.compare.CompareMode;
 import io.json.compare.JsonComparator;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 class JsonObjectMatcher extends AbstractJsonMatcher {
 
     private final Set<String> matchedFieldNames = new HashSet<>();
+    private DocumentContext documentContext;
+    private JsonNode[] jsonPathResults;
 
-    JsonObjectMatcher(JsonNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes) {
-        super(expected, actual, comparator, compareModes);
+    JsonObjectMatcher(ExpectedNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes, MatchContext context) {
+        super(expected, actual, comparator, compareModes, context);
     }
 
     @Override
-    public List<String> match() {
-        List<String> diffs = new ArrayList<>();
+    List<JsonDiff> diffs() {
+        List<JsonDiff> diffs = new ArrayList<>();
+        boolean nonExtensible = compareModes.contains(CompareMode.JSON_OBJECT_NON_EXTENSIBLE);
+        if (context.isFailFast() && nonExtensible && hasExtraFields()) {
+            diffs.add(extraFieldsDiff());
+            return diffs;
+        }
 
-        Iterator<Map.Entry<String, JsonNode>> it = expected.fields();
-        while (it.hasNext()) {
-            Map.Entry<String, JsonNode> entry = it.next();
-            String expectedField = entry.getKey();
-            JsonNode expectedValue = entry.getValue();
-            UseCase fieldUseCase = getUseCase(expectedField);
-            String expectedSanitizedField = sanitize(expectedField);
-            Optional<String> jsonPathExpression = extractJsonPathExp(expectedSanitizedField);
+        List<ExpectedNode.Field> fields = expectedNode.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            ExpectedNode.Field field = fields.get(i);
+            if (context.isExhausted(diffs.size())) {
+                return diffs;
+            }
+            String expectedField = field.getName();
+            ExpectedNode expectedValue = field.getValue();
+            UseCase fieldUseCase = field.getUseCase();
+            String expectedSanitizedField = field.getSanitizedName();
+            String jsonPathExpression = field.getJsonPathExpression();
             List<Map.Entry<String, JsonNode>> candidateEntries = null;
-            if (!jsonPathExpression.isPresent()) {
-                candidateEntries = searchCandidatesByField(fieldUseCase, expectedSanitizedField, actual);
+            if (jsonPathExpression == null) {
+                candidateEntries = searchCandidatesByField(field, actual);
             }
             switch (fieldUseCase) {
                 case MATCH_ANY:
                 case MATCH:
-                    if (!jsonPathExpression.isPresent()) {
+                    if (jsonPathExpression == null) {
                         if (candidateEntries.isEmpty()) {
-                            diffs.add(String.format("Field '%s' was NOT FOUND", expectedField));
+                            diffs.add(JsonDiff.of(JsonDiff.Kind.FIELD_NOT_FOUND, expectedValue.getNode(), null,
+                                    () -> String.format("Field '%s' was NOT FOUND", expectedField)));
                         } else {
                             diffs.addAll(matchWithCandidates(expectedSanitizedField, expectedValue, candidateEntries));
                         }
                     } else {
                         try {
-                            diffs.addAll(new JsonPathMatcher(jsonPathExpression.get(), expectedValue, actual, comparator, compareModes).match());
+                            diffs.addAll(new JsonPathMatcher(field, jsonPathResult(i, field), comparator, compareModes, context).diffs());
                         } catch (PathNotFoundException e) {
-                            diffs.add(String.format("Json path '%s' -> %s", jsonPathExpression.get(), e.getMessage()));
+                            diffs.add(JsonDiff.of(JsonDiff.Kind.JSON_PATH_NOT_FOUND, expectedValue.getNode(), null,
+                                    () -> String.format("Json path '%s' -> %s", jsonPathExpression, e.getMessage())));
                         }
                     }
                     break;
                 case DO_NOT_MATCH_ANY:
-                    if (expected.size() - getDoNotMatchUseCases(expected) < actual.size()) {
-                        diffs.add(String.format("Expected condition '%s' was not met. Actual JSON OBJECT has extra fields", expectedField));
+                    if (hasExtraFields()) {
+                        diffs.add(JsonDiff.of(JsonDiff.Kind.UNEXPECTED_FIELDS, null, actual,
+                                () -> String.format("Expected condition '%s' was not met. Actual JSON OBJECT has extra fields", expectedField)));
                     }
                     break;
                 case DO_NOT_MATCH:
-                    if (!jsonPathExpression.isPresent()) {
+                    if (jsonPathExpression == null) {
                         if (!candidateEntries.isEmpty()) {
-                            diffs.add(String.format("Field '%s' was FOUND", expectedField));
+                            diffs.add(JsonDiff.of(JsonDiff.Kind.FIELD_FOUND, expectedValue.getNode(), candidateEntries.get(0).getValue(),
+                                    () -> String.format("Field '%s' was FOUND", expectedField)));
                         }
                     } else {
-                        try {
-                            new JsonPathMatcher(jsonPathExpression.get(), expectedValue, actual, comparator, compareModes).match();
-                        } catch (PathNotFoundException e) {
-                            break;
+                        if (simpleJsonPathResult(i) != null || JsonPathMatcher.exists(field, documentContext())) {
+                            diffs.add(JsonDiff.of(JsonDiff.Kind.JSON_PATH_FOUND, expectedValue.getNode(), null,
+                                    () -> String.format("Json path '%s' was FOUND", expectedField)));
                         }
-                        diffs.add(String.format("Json path '%s' was FOUND", expectedField));
                     }
                     break;
             }
         }
-        if (compareModes.contains(CompareMode.JSON_OBJECT_NON_EXTENSIBLE) && expected.size() - getDoNotMatchUseCases(expected) < actual.size()) {
-            diffs.add("Actual JSON OBJECT has extra fields");
+        if (nonExtensible && hasExtraFields()) {
+            diffs.add(extraFieldsDiff());
         }
         return diffs;
     }
 
-    private List<String> matchWithCandidates(String expectedField, JsonNode expectedValue, List<Map.Entry<String, JsonNode>> candidates) {
-        List<String> diffs = new ArrayList<>();
+    private JsonNode jsonPathResult(int position, ExpectedNode.Field field) {
+        JsonNode result = simpleJsonPathResult(position);
+        return result != null ? result : JsonPathMatcher.read(field, documentContext());
+    }
+
+    /**
+     * @return the result of a simple json path expression, resolved together with all the others in a single walk of the actual JSON,
+     * or null if the field is not a simple json path expression or if its path does not exist
+     */
+    private JsonNode simpleJsonPathResult(int position) {
+        JsonPathTrie trie = expectedNode.getJsonPathTrie();
+        if (trie == null) {
+            return null;
+        }
+        if (jsonPathResults == null) {
+            jsonPathResults = trie.resolve(actual);
+        }
+        return jsonPathResults[position];
+    }
+
+    /**
+     * All complex json path fields of the expected object are evaluated against the same actual node
+     */
+    private DocumentContext documentContext() {
+        if (documentContext == null) {
+            documentContext = JsonPathMatcher.parse(actual);
+        }
+        return documentContext;
+    }
+
+    private boolean hasExtraFields() {
+        return expected.size() - expectedNode.getDoNotMatchUseCases() < actual.size();
+    }
 
-        UseCase expectedValueUseCase = getUseCase(expectedValue);
+    private JsonDiff extraFieldsDiff() {
+        return JsonDiff.of(JsonDiff.Kind.UNEXPECTED_FIELDS, null, actual, "Actual JSON OBJECT has extra fields");
+    }
+
+    private List<JsonDiff> matchWithCandidates(String expectedField, ExpectedNode expectedValue, List<Map.Entry<String, JsonNode>> candidates) {
+        List<JsonDiff> diffs = new ArrayList<>();
+
+        UseCase expectedValueUseCase = expectedValue.getNodeUseCase();
 
         for (Map.Entry<String, JsonNode> candidateEntry : candidates) {
             String candidateField = candidateEntry.getKey();
@@ -96,18 +147,28 @@ class JsonObjectMatcher extends AbstractJsonMatcher {
             }
 
             JsonNode candidateValue = candidateEntry.getValue();
-            List<String> candidateDiffs = new JsonMatcher(expectedValue, candidateValue, comparator, compareModes).match();
+            List<JsonDiff> candidateDiffs = new JsonMatcher(expectedValue, candidateValue, comparator, compareModes, context).diffs();
             if (candidateDiffs.isEmpty()) {
                 matchedFieldNames.add(candidateField);
                 return Collections.emptyList();
             } else {
-                candidateDiffs.forEach(diff -> diffs.add(String.format("%s -> %s", expectedField, diff)));
+                candidateDiffs.forEach(diff -> diffs.add(diff.withParent(expectedField)));
             }
         }
         return diffs;
     }
 
-    private List<Map.Entry<String, JsonNode>> searchCandidatesByField(UseCase fieldUseCase, String fieldName, JsonNode target) {
+    private List<Map.Entry<String, JsonNode>> searchCandidatesByField(ExpectedNode.Field field, JsonNode target) {
+        UseCase fieldUseCase = field.getUseCase();
+        String fieldName = field.getSanitizedName();
+        String literalFieldName = fieldUseCase.equals(UseCase.MATCH_ANY) ? null : literals.of(field);
+        if (literalFieldName != null) {
+            JsonNode value = target.get(literalFieldName);
+            if (value == null || matchedFieldNames.contains(literalFieldName)) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(new AbstractMap.SimpleImmutableEntry<>(literalFieldName, value));
+        }
         List<Map.Entry<String, JsonNode>> candidates = new ArrayList<>();
         Iterator<Map.Entry<String, JsonNode>> it = target.fields();
         while (it.hasNext()) {
@@ -1,48 +1,119 @@
 package io.json.compare.matcher;
 
-import com.fasterxml.jackson.core.StreamReadConstraints;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ParseContext;
+import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
 import io.json.compare.CompareMode;
 import io.json.compare.JsonComparator;
+import io.json.compare.util.JsonUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 class JsonPathMatcher extends AbstractJsonMatcher {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper().enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
-
-    static {
-        MAPPER.getFactory().setStreamReadConstraints(StreamReadConstraints.builder()
-                .maxNestingDepth(Integer.MAX_VALUE).maxNumberLength(Integer.MAX_VALUE).maxStringLength(Integer.MAX_VALUE).build());
-    }
-
     private static final ParseContext PARSE_CONTEXT = JsonPath.using(new Configuration.ConfigurationBuilder()
             .jsonProvider(new JacksonJsonNodeJsonProvider()).build());
 
     private final String jsonPath;
 
-    JsonPathMatcher(String jsonPath, JsonNode expectedValue, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes) {
-        super(expectedValue, actual, comparator, compareModes);
-        this.jsonPath = jsonPath;
+    /**
+     * @param result the result of the json path expression of the given field, evaluated against the actual JSON
+     */
+    JsonPathMatcher(ExpectedNode.Field jsonPathField, JsonNode result, JsonComparator comparator,
+                    Set<CompareMode> compareModes, MatchContext context) {
+        super(jsonPathField.getValue(), result, comparator, compareModes, context);
+        this.jsonPath = jsonPathField.getJsonPathExpression();
+    }
+
+    /**
+     * Wraps the actual JSON once, for evaluating any number of json path expressions against it.
+     */
+    static DocumentContext parse(JsonNode actual) {
+        return PARSE_CONTEXT.parse(actual);
+    }
+
+    /**
+     * @throws PathNotFoundException if the json path expression of the given field has no result
+     */
+    static JsonNode read(ExpectedNode.Field jsonPathField, DocumentContext documentContext) {
+        return toJsonNode(jsonPathField.getJsonPath() != null ? documentContext.read(jsonPathField.getJsonPath())
+                : documentContext.read(jsonPathField.getJsonPathExpression()));
+    }
+
+    /**
+     * @return true if the json path expression of the given field finds a result, without matching it
+     */
+    static boolean exists(ExpectedNode.Field jsonPathField, DocumentContext documentContext) {
+        try {
+            read(jsonPathField, documentContext);
+            return true;
+        } catch (PathNotFoundException e) {
+            return false;
+        }
     }
 
     @Override
-    public List<String> match() {
-        List<String> diffs = new ArrayList<>();
-        JsonNode result = MAPPER.convertValue(PARSE_CONTEXT.parse(actual).read(jsonPath), JsonNode.class);
-        List<String> jsonPathDiffs = new JsonMatcher(expected, result, comparator, compareModes).match();
-        jsonPathDiffs.forEach(diff -> diffs.add(String.format("Json path '%s' -> Expected json path result:" +
+    List<JsonDiff> diffs() {
+        List<JsonDiff> diffs = new ArrayList<>();
+        List<JsonDiff> jsonPathDiffs = new JsonMatcher(expectedNode, actual, comparator, compareModes, context).diffs();
+        jsonPathDiffs.forEach(diff -> diffs.add(JsonDiff.of(JsonDiff.Kind.JSON_PATH_MISMATCH, expected, actual,
+                Collections.singletonList(diff), () -> String.format("Json path '%s' -> Expected json path result:" +
                         System.lineSeparator() + "%s" + System.lineSeparator() + "But got:" +
                         System.lineSeparator() + "%s" + System.lineSeparator() + "________diffs________" + System.lineSeparator() + "%s",
-                jsonPath, expected, result, diff)));
+                jsonPath, expected, actual, diff.getMessage()))));
         return diffs;
     }
-}
\ No newline at end of file
+
+    /**
+     * Json path results are nodes of the actual JSON, except for value nodes, which the json provider unwraps into Java values.<br>
+     * Wrap them back without any conversion, so that numbers keep the exact representation of the actual JSON.
+     */
+    private static JsonNode toJsonNode(Object value) {
+        if (value instanceof JsonNode) {
+            return (JsonNode) value;
+        } else if (value == null) {
+            return NullNode.getInstance();
+        } else if (value instanceof String) {
+            return TextNode.valueOf((String) value);
+        } else if (value instanceof Boolean) {
+            return BooleanNode.valueOf((Boolean) value);
+        } else if (value instanceof Integer) {
+            return IntNode.valueOf((Integer) value);
+        } else if (value instanceof Long) {
+            return LongNode.valueOf((Long) value);
+        } else if (value instanceof BigInteger) {
+            return BigIntegerNode.valueOf((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            return DecimalNode.valueOf((BigDecimal) value);
+        } else if (value instanceof Double) {
+            return DoubleNode.valueOf((Double) value);
+        } else if (value instanceof Float) {
+            return FloatNode.valueOf((Float) value);
+        }
+        try {
+            return JsonUtils.toJson(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
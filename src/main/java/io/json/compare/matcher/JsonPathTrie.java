@@ -0,0 +1,155 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix tree of the simple json path expressions of an expected JSON object, which resolves all of them in a single walk of the actual JSON.<br>
+ * Simple expressions are definite paths made only of property names (dot or bracket notation) and non-negative array indexes,
+ * such as <code>$.store.book[0]['title']</code>.
+ * Any other expression, as well as any simple expression without a result, is left to Jayway, which also provides the error messages.
+ */
+final class JsonPathTrie {
+
+    private static final int MAX_INDEX_DIGITS = 9;
+
+    private final Node root = new Node();
+    private final int size;
+
+    private JsonPathTrie(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @return null if none of the fields is a simple json path expression
+     */
+    static JsonPathTrie of(List<ExpectedNode.Field> fields) {
+        JsonPathTrie trie = new JsonPathTrie(fields.size());
+        boolean empty = true;
+        for (int i = 0; i < fields.size(); i++) {
+            ExpectedNode.Field field = fields.get(i);
+            List<Object> segments = field.getJsonPath() == null ? null : segments(field.getJsonPathExpression());
+            if (segments != null) {
+                trie.add(segments, i);
+                empty = false;
+            }
+        }
+        return empty ? null : trie;
+    }
+
+    /**
+     * @return the results of the json path expressions, indexed by field position.
+     * A result is null if the field is not a simple json path expression or if its path does not exist inside the actual JSON
+     */
+    JsonNode[] resolve(JsonNode actual) {
+        JsonNode[] results = new JsonNode[size];
+        resolve(root, actual, results);
+        return results;
+    }
+
+    private static void resolve(Node node, JsonNode actual, JsonNode[] results) {
+        for (int position : node.positions) {
+            results[position] = actual;
+        }
+        if (actual.isObject()) {
+            for (Map.Entry<String, Node> child : node.properties.entrySet()) {
+                JsonNode value = actual.get(child.getKey());
+                if (value != null) {
+                    resolve(child.getValue(), value, results);
+                }
+            }
+        } else if (actual.isArray()) {
+            for (Map.Entry<Integer, Node> child : node.indexes.entrySet()) {
+                if (child.getKey() < actual.size()) {
+                    resolve(child.getValue(), actual.get(child.getKey()), results);
+                }
+            }
+        }
+    }
+
+    private void add(List<Object> segments, int position) {
+        Node node = root;
+        for (Object segment : segments) {
+            node = segment instanceof Integer ? node.indexes.computeIfAbsent((Integer) segment, k -> new Node())
+                    : node.properties.computeIfAbsent((String) segment, k -> new Node());
+        }
+        node.positions.add(position);
+    }
+
+    /**
+     * @return property names and array indexes of a simple json path expression, or null if the expression is not simple
+     */
+    static List<Object> segments(String expression) {
+        if (!expression.startsWith("$")) {
+            return null;
+        }
+        List<Object> segments = new ArrayList<>();
+        int i = 1;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < length && isNameChar(expression.charAt(end))) {
+                    end++;
+                }
+                if (end == i + 1) {
+                    return null;
+                }
+                segments.add(expression.substring(i + 1, end));
+                i = end;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                Object segment = bracketSegment(expression.substring(i + 1, end));
+                if (segment == null) {
+                    return null;
+                }
+                segments.add(segment);
+                i = end + 1;
+            } else {
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    private static Object bracketSegment(String content) {
+        if (content.length() >= 2 && (content.charAt(0) == '\'' || content.charAt(0) == '"')
+                && content.charAt(content.length() - 1) == content.charAt(0)) {
+            String name = content.substring(1, content.length() - 1);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '\'' || c == '"' || c == '\\' || c == ',' || c == '*') {
+                    return null;
+                }
+            }
+            return name;
+        }
+        if (content.isEmpty() || content.length() > MAX_INDEX_DIGITS) {
+            return null;
+        }
+        for (int i = 0; i < content.length(); i++) {
+            if (!Character.isDigit(content.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.parseInt(content);
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static final class Node {
+        private final List<Integer> positions = new ArrayList<>(1);
+        private final Map<String, Node> properties = new LinkedHashMap<>();
+        private final Map<Integer, Node> indexes = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,174 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.json.compare.CompareMode;
+import io.json.compare.DefaultJsonComparator;
+import io.json.compare.JsonComparator;
+import io.json.compare.MatchOptions;
+import io.json.compare.util.JsonUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parts of an actual JSON which can affect its matching against an expected JSON.<br>
+ * The actual JSON is read from a token stream and only these parts are kept: object fields which are not referenced by
+ * the expected literal field names are skipped, and so are the contents of the nodes which only need to exist.
+ * Subtrees matched through regex or MATCH_ANY field names, json path expressions or DO_NOT_MATCH_ANY use cases are kept entirely.<br>
+ * Matching the resulting tree gives the same differences as matching the whole actual JSON,
+ * so memory scales with the expected JSON rather than with the actual one.
+ * Key based array matching, custom comparators and {@link CompareMode#JSON_OBJECT_NON_EXTENSIBLE} need the whole actual JSON.
+ */
+public final class JsonProjection {
+
+    private static final JsonProjection ALL = new JsonProjection(Collections.emptyMap(), null);
+    private static final JsonProjection EXISTS = new JsonProjection(Collections.emptyMap(), null);
+    private static final JsonProjection VALUE = new JsonProjection(Collections.emptyMap(), null);
+
+    private final Map<String, JsonProjection> fields;
+    private final JsonProjection elements;
+
+    private JsonProjection(Map<String, JsonProjection> fields, JsonProjection elements) {
+        this.fields = fields;
+        this.elements = elements;
+    }
+
+    public static JsonProjection of(ExpectedNode expected, JsonComparator comparator, Set<CompareMode> compareModes, MatchOptions options) {
+        boolean defaultComparator = comparator == null || comparator.getClass().equals(DefaultJsonComparator.class);
+        if (!defaultComparator || (compareModes != null && compareModes.contains(CompareMode.JSON_OBJECT_NON_EXTENSIBLE))
+                || (options != null && (!options.getArrayKeys().isEmpty() || !options.getArrayKeysByPath().isEmpty()))) {
+            return ALL;
+        }
+        DefaultJsonComparator literalComparator = comparator == null ? new DefaultJsonComparator(compareModes) : (DefaultJsonComparator) comparator;
+        return of(expected, Literals.of(literalComparator));
+    }
+
+    private static JsonProjection of(ExpectedNode expected, Literals literals) {
+        JsonNode node = expected.getNode();
+        if (expected.isJsonPathNode()) {
+            return ALL;
+        }
+        if (node.isObject()) {
+            Map<String, JsonProjection> fields = new HashMap<>();
+            for (ExpectedNode.Field field : expected.getFields()) {
+                AbstractJsonMatcher.UseCase useCase = field.getUseCase();
+                String literalName = literals.of(field);
+                if (field.getJsonPathExpression() != null || literalName == null
+                        || useCase == AbstractJsonMatcher.UseCase.MATCH_ANY || useCase == AbstractJsonMatcher.UseCase.DO_NOT_MATCH_ANY) {
+                    return ALL;
+                }
+                JsonProjection projection = useCase == AbstractJsonMatcher.UseCase.DO_NOT_MATCH ? EXISTS : of(field.getValue(), literals);
+                fields.merge(literalName, projection, JsonProjection::merge);
+            }
+            return new JsonProjection(fields, null);
+        }
+        if (node.isArray()) {
+            JsonProjection elements = EXISTS;
+            for (ExpectedNode element : expected.getElements()) {
+                elements = merge(elements, elementOf(element, literals));
+            }
+            return elements == ALL ? ALL : new JsonProjection(Collections.emptyMap(), elements);
+        }
+        return VALUE;
+    }
+
+    /**
+     * Array elements with MATCH_ANY or DO_NOT_MATCH_ANY use cases are never matched, they only need to exist.
+     * Field values with such use cases are still matched as values, so they are read.
+     */
+    private static JsonProjection elementOf(ExpectedNode child, Literals literals) {
+        AbstractJsonMatcher.UseCase useCase = child.getNodeUseCase();
+        return useCase == AbstractJsonMatcher.UseCase.MATCH_ANY || useCase == AbstractJsonMatcher.UseCase.DO_NOT_MATCH_ANY ? EXISTS
+                : of(child, literals);
+    }
+
+    private static JsonProjection merge(JsonProjection first, JsonProjection second) {
+        if (first == ALL || second == ALL) {
+            return ALL;
+        }
+        if (first == EXISTS) {
+            return second;
+        }
+        if (second == EXISTS || first == second) {
+            return first;
+        }
+        Map<String, JsonProjection> fields = new HashMap<>(first.fields);
+        second.fields.forEach((name, projection) -> fields.merge(name, projection, JsonProjection::merge));
+        JsonProjection elements = first.elements == null ? second.elements
+                : second.elements == null ? first.elements : merge(first.elements, second.elements);
+        return new JsonProjection(fields, elements);
+    }
+
+    /**
+     * @return true if the whole actual JSON is needed
+     */
+    public boolean isComplete() {
+        return this == ALL;
+    }
+
+    /**
+     * Reads a whole JSON document from the given parser, which is not closed.
+     *
+     * @return a missing node if the parser has no content
+     * @throws JsonParseException if there is more content after the first JSON value
+     */
+    public JsonNode read(JsonParser parser) throws IOException {
+        if (parser.currentToken() == null && parser.nextToken() == null) {
+            return MissingNode.getInstance();
+        }
+        JsonNode node = read(parser, this);
+        JsonToken trailingToken = parser.nextToken();
+        if (trailingToken != null) {
+            throw new JsonParseException(parser, "Trailing token (of type " + trailingToken + ") found after value");
+        }
+        return node;
+    }
+
+    private static JsonNode read(JsonParser parser, JsonProjection projection) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (projection == EXISTS) {
+            parser.skipChildren();
+            return NullNode.getInstance();
+        }
+        if (projection == ALL || token.isScalarValue()) {
+            return JsonUtils.readTree(parser);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            ObjectNode node = JsonNodeFactory.instance.objectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                JsonProjection field = projection.fields.get(name);
+                if (field == null) {
+                    parser.skipChildren();
+                } else {
+                    node.set(name, read(parser, field));
+                }
+            }
+            return node;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            ArrayNode node = JsonNodeFactory.instance.arrayNode();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (projection.elements == null) {
+                    parser.skipChildren();
+                } else {
+                    node.add(read(parser, projection.elements));
+                }
+            }
+            return node;
+        }
+        throw new JsonParseException(parser, "Unexpected token " + token);
+    }
+}
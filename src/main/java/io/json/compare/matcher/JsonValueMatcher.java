@@ -10,36 +10,45 @@ import java.util.Set;
 
 class JsonValueMatcher extends AbstractJsonMatcher {
 
-    JsonValueMatcher(JsonNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes) {
-        super(expected, actual, comparator, compareModes);
+    JsonValueMatcher(ExpectedNode expected, JsonNode actual, JsonComparator comparator, Set<CompareMode> compareModes, MatchContext context) {
+        super(expected, actual, comparator, compareModes, context);
     }
 
     @Override
-    public List<String> match() {
-        List<String> diffs = new ArrayList<>();
-        String diff = System.lineSeparator() + "Expected %s: %s But got: %s";
+    List<JsonDiff> diffs() {
+        List<JsonDiff> diffs = new ArrayList<>();
 
         if (expected.isNull() && !actual.isNull()) {
-            diffs.add(String.format(diff, "null", "", actual));
+            diffs.add(diff("null", ""));
             return diffs;
         } else if (expected.isNumber() && !actual.isNumber()) {
-            diffs.add(String.format(diff, "number", expected, actual));
+            diffs.add(diff("number", expected));
             return diffs;
         } else if (expected.isBoolean() && !actual.isBoolean()) {
-            diffs.add(String.format(diff, "boolean", expected, actual));
+            diffs.add(diff("boolean", expected));
             return diffs;
         } else if (actual.isTextual() && !expected.isTextual()) {
-            diffs.add(String.format(diff, "text", expected, actual));
+            diffs.add(diff("text", expected));
             return diffs;
         } else {
-            UseCase useCase = getUseCase(expected.asText());
-            String expectedText = sanitize(expected.asText());
+            UseCase useCase = expectedNode.getUseCase();
+            String expectedText = expectedNode.getSanitizedText();
             String actualText = actual.asText();
 
-            if (!useCase.equals(UseCase.MATCH_ANY) && comparator.compareValues(expectedText, actualText) != useCase.equals(UseCase.MATCH)) {
-                diffs.add(String.format(diff, "value", expected, actual));
+            if (!useCase.equals(UseCase.MATCH_ANY) && compare(expectedText, actualText) != useCase.equals(UseCase.MATCH)) {
+                diffs.add(diff("value", expected));
             }
             return diffs;
         }
     }
-}
\ No newline at end of file
+
+    private boolean compare(String expectedText, String actualText) {
+        String literal = literals.of(expectedNode);
+        return literal != null ? literal.equals(actualText) : comparator.compareValues(expectedText, actualText);
+    }
+
+    private JsonDiff diff(String type, Object expectedValue) {
+        return JsonDiff.of(JsonDiff.Kind.VALUE_MISMATCH, expected, actual,
+                () -> String.format(System.lineSeparator() + "Expected %s: %s But got: %s", type, expectedValue, actual));
+    }
+}
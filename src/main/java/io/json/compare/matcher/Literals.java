@@ -0,0 +1,43 @@
+package io.json.compare.matcher;
+
+import io.json.compare.DefaultJsonComparator;
+
+/**
+ * Resolves the only text matched by an expected field name or value, or null if it may match other texts as well.<br>
+ * Expected texts are classified once by {@link ExpectedNode}, so that they are not scanned again for each comparison.
+ */
+final class Literals {
+
+    /**
+     * Custom comparators may match any text
+     */
+    static final Literals NONE = new Literals(false, false);
+    private static final Literals REGEX = new Literals(true, false);
+    private static final Literals TEXT = new Literals(true, true);
+
+    private final boolean enabled;
+    private final boolean regexDisabled;
+
+    private Literals(boolean enabled, boolean regexDisabled) {
+        this.enabled = enabled;
+        this.regexDisabled = regexDisabled;
+    }
+
+    /**
+     * @param comparator default comparator, or null for a custom comparator
+     */
+    static Literals of(DefaultJsonComparator comparator) {
+        if (comparator == null) {
+            return NONE;
+        }
+        return comparator.isRegexDisabled() ? TEXT : REGEX;
+    }
+
+    String of(ExpectedNode value) {
+        return !enabled ? null : regexDisabled ? value.getSanitizedText() : value.getRegexLiteral();
+    }
+
+    String of(ExpectedNode.Field field) {
+        return !enabled ? null : regexDisabled ? field.getSanitizedName() : field.getRegexLiteral();
+    }
+}
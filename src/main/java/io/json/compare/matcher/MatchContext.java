@@ -0,0 +1,174 @@
+package io.json.compare.matcher;
+
+import io.json.compare.MatchOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Settings shared by all the matchers involved in one comparison.<br>
+ * The root context depends only on the options and on the expected JSON, so a compiled expectation computes it once
+ * and shares it between all its comparisons.
+ */
+public final class MatchContext {
+
+    static final MatchContext DEFAULT = new MatchContext(MatchOptions.defaults(), Collections.emptyMap(), false, false);
+
+    private final MatchOptions options;
+    private final Map<ExpectedNode, List<String>> arrayKeysByNode;
+    private final boolean failFast;
+    private final boolean sequential;
+    private final int maxDiffs;
+    private final int exhaustedAt;
+    // derived contexts are created lazily: concurrent comparisons may create them twice, which is harmless since contexts are immutable
+    private MatchContext failFastContext;
+    private MatchContext sequentialContext;
+
+    private MatchContext(MatchOptions options, Map<ExpectedNode, List<String>> arrayKeysByNode, boolean failFast, boolean sequential) {
+        this.options = options;
+        this.arrayKeysByNode = arrayKeysByNode;
+        this.failFast = failFast;
+        this.sequential = sequential || options.getExecutor() == null;
+        this.maxDiffs = options.getMaxDiffs();
+        // one difference more than the budget is searched for, so that the omitted differences are summarized
+        this.exhaustedAt = failFast ? 1 : maxDiffs == MatchOptions.UNLIMITED ? maxDiffs : maxDiffs + 1;
+    }
+
+    /**
+     * @param expected root of the expected JSON, whose arrays are looked up by path for the options having array keys by path
+     */
+    public static MatchContext of(MatchOptions options, ExpectedNode expected) {
+        if (options == null || options == MatchOptions.defaults()) {
+            return DEFAULT;
+        }
+        Map<ExpectedNode, List<String>> arrayKeysByNode = Collections.emptyMap();
+        if (!options.getArrayKeysByPath().isEmpty()) {
+            arrayKeysByNode = new IdentityHashMap<>();
+            collectArrayKeys(expected, "$", options.getArrayKeysByPath(), arrayKeysByNode);
+        }
+        return new MatchContext(options, arrayKeysByNode, false, false);
+    }
+
+    private static void collectArrayKeys(ExpectedNode expected, String path, Map<String, List<String>> arrayKeysByPath,
+                                         Map<ExpectedNode, List<String>> arrayKeysByNode) {
+        if (expected.getNode().isArray()) {
+            List<String> keys = arrayKeysByPath.get(path);
+            if (keys != null) {
+                arrayKeysByNode.put(expected, keys);
+            }
+            for (ExpectedNode element : expected.getElements()) {
+                collectArrayKeys(element, path + "[*]", arrayKeysByPath, arrayKeysByNode);
+            }
+        } else {
+            for (ExpectedNode.Field field : expected.getFields()) {
+                if (field.getJsonPathExpression() == null) {
+                    collectArrayKeys(field.getValue(), path + "." + field.getSanitizedName(), arrayKeysByPath, arrayKeysByNode);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if matching stops at the first difference found, since only the presence of differences is relevant
+     */
+    boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * @return true if no more differences need to be searched for, once the given number of differences was found
+     */
+    boolean isExhausted(int diffCount) {
+        return diffCount >= exhaustedAt;
+    }
+
+    /**
+     * Keeps the differences which fit into the budget of the options, followed by a summary of the omitted ones
+     */
+    List<JsonDiff> withinBudget(List<JsonDiff> diffs) {
+        int maxMessageSize = options.getMaxMessageSize();
+        if (diffs.size() <= maxDiffs && maxMessageSize == MatchOptions.UNLIMITED) {
+            return diffs;
+        }
+        List<JsonDiff> reported = new ArrayList<>(Math.min(diffs.size(), maxDiffs) + 1);
+        long messageSize = 0;
+        for (JsonDiff diff : diffs) {
+            if (reported.size() >= maxDiffs) {
+                break;
+            }
+            if (maxMessageSize != MatchOptions.UNLIMITED) {
+                messageSize += diff.getMessage().length();
+                if (!reported.isEmpty() && messageSize > maxMessageSize) {
+                    break;
+                }
+            }
+            reported.add(diff);
+        }
+        if (diffs.size() > maxDiffs) {
+            // matching stopped, so the number of omitted differences is unknown
+            reported.add(JsonDiff.omitted(maxDiffs));
+        } else if (reported.size() < diffs.size()) {
+            reported.add(JsonDiff.omitted(diffs.size() - reported.size(), diffs.size()));
+        }
+        return reported;
+    }
+
+    /**
+     * Keeps the differences of a child match which fit into the differences budget, followed by a summary of the omitted ones,
+     * for the differences reported inside another one, such as an array element mismatch
+     */
+    List<JsonDiff> withinChildBudget(List<JsonDiff> diffs) {
+        if (failFast || diffs.size() <= maxDiffs) {
+            return diffs;
+        }
+        List<JsonDiff> reported = new ArrayList<>(diffs.subList(0, maxDiffs));
+        // the child match stopped, so the number of omitted differences is unknown
+        reported.add(JsonDiff.omitted(maxDiffs));
+        return reported;
+    }
+
+    /**
+     * @return context for child matches whose differences are never reported, only checked for presence
+     */
+    MatchContext failFast() {
+        if (failFast) {
+            return this;
+        }
+        if (failFastContext == null) {
+            failFastContext = new MatchContext(options, arrayKeysByNode, true, sequential);
+        }
+        return failFastContext;
+    }
+
+    /**
+     * @return context for the matches which already run on the parallel executor, so they do not wait on it in their turn
+     */
+    MatchContext sequential() {
+        if (sequential) {
+            return this;
+        }
+        if (sequentialContext == null) {
+            sequentialContext = new MatchContext(options, arrayKeysByNode, failFast, true);
+        }
+        return sequentialContext;
+    }
+
+    /**
+     * @return the executor for matching the elements of an array having the given size in parallel, or null for sequential matching
+     */
+    Executor parallelExecutor(int size) {
+        return sequential || size < options.getParallelThreshold() ? null : options.getExecutor();
+    }
+
+    /**
+     * @return the fields by which the elements of the expected array are joined with the actual ones, empty if none
+     */
+    List<String> arrayKeys(ExpectedNode expectedArray) {
+        List<String> keys = arrayKeysByNode.get(expectedArray);
+        return keys != null ? keys : options.getArrayKeys();
+    }
+}
@@ -0,0 +1,112 @@
+package io.json.compare.util;
+
+import java.io.Writer;
+
+/**
+ * Writer which keeps at most a given number of characters.<br>
+ * Once more characters are written, only the first and the last half of the cropped size are kept:
+ * a head buffer and a ring buffer for the tail, so memory stays bounded whatever the written content size.
+ * The result is the same as {@link MessageUtil} gives for the whole content.
+ */
+public final class CroppingWriter extends Writer {
+
+    private final int limit;
+    private final int headSize;
+    private final StringBuilder head;
+    private char[] tail;
+    private int tailPosition;
+    private boolean tailFull;
+
+    public CroppingWriter(int limit, int croppedSize) {
+        this.limit = limit;
+        this.headSize = croppedSize / 2;
+        this.head = new StringBuilder(Math.min(limit, 1024));
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        if (tail == null) {
+            if (head.length() + len <= limit) {
+                head.append(cbuf, off, len);
+                return;
+            }
+            crop();
+        }
+        for (int i = off; i < off + len; i++) {
+            keep(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        if (tail == null) {
+            if (head.length() + len <= limit) {
+                head.append(str, off, off + len);
+                return;
+            }
+            crop();
+        }
+        for (int i = off; i < off + len; i++) {
+            keep(str.charAt(i));
+        }
+    }
+
+    @Override
+    public void write(int c) {
+        if (tail == null) {
+            if (head.length() < limit) {
+                head.append((char) c);
+                return;
+            }
+            crop();
+        }
+        keep((char) c);
+    }
+
+    private void crop() {
+        tail = new char[headSize];
+        if (head.length() > headSize) {
+            for (int i = headSize; i < head.length(); i++) {
+                keep(head.charAt(i));
+            }
+            head.setLength(headSize);
+        }
+    }
+
+    private void keep(char c) {
+        if (head.length() < headSize) {
+            head.append(c);
+        } else if (tail.length > 0) {
+            tail[tailPosition++] = c;
+            if (tailPosition == tail.length) {
+                tailPosition = 0;
+                tailFull = true;
+            }
+        }
+    }
+
+    public boolean isCropped() {
+        return tail != null;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        if (tail == null) {
+            return head.toString();
+        }
+        StringBuilder sb = new StringBuilder(head.length() + MessageUtil.CROPPED_CONTENT.length() + tail.length)
+                .append(head).append(MessageUtil.CROPPED_CONTENT);
+        if (tailFull) {
+            sb.append(tail, tailPosition, tail.length - tailPosition);
+        }
+        return sb.append(tail, 0, tailPosition).toString();
+    }
+}
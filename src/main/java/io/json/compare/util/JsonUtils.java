@@ -1,12 +1,25 @@
 package io.json.compare.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public class JsonUtils {
 
@@ -25,9 +38,113 @@ public class JsonUtils {
                 .maxNestingDepth(Integer.MAX_VALUE).maxNumberLength(Integer.MAX_VALUE).maxStringLength(Integer.MAX_VALUE).build());
     }
 
+    private static final ObjectReader VALUE_READER = MAPPER.reader().without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+
+    /**
+     * Files ({@link Path} or {@link File}) of at least this size are memory-mapped, instead of being read through a buffered stream.
+     */
+    public static final long MEMORY_MAPPING_THRESHOLD = 1 << 20;
+
+    /**
+     * Strings, byte arrays, files, input streams and readers are parsed as JSON content. Streams and readers are closed.
+     * Any other object is converted to JSON.
+     */
     public static JsonNode toJson(Object obj) throws IOException {
-        return obj instanceof JsonNode ? (JsonNode) obj :
-                (obj instanceof String) ? MAPPER.readTree(obj.toString()) : MAPPER.convertValue(obj, JsonNode.class);
+        if (obj instanceof JsonNode) {
+            return (JsonNode) obj;
+        } else if (obj instanceof String) {
+            return MAPPER.readTree(obj.toString());
+        } else if (isJsonSource(obj)) {
+            try (JsonParser parser = createParser(obj)) {
+                JsonNode node = MAPPER.readTree(parser);
+                return node == null ? MissingNode.getInstance() : node;
+            }
+        }
+        return MAPPER.convertValue(obj, JsonNode.class);
+    }
+
+    /**
+     * @return true if the given object is a byte array, a file, an input stream or a reader, whose content can be parsed as JSON
+     */
+    public static boolean isJsonSource(Object obj) {
+        return obj instanceof byte[] || obj instanceof Path || obj instanceof File || obj instanceof InputStream || obj instanceof Reader;
+    }
+
+    /**
+     * @param source a String or any of the objects accepted by {@link #isJsonSource(Object)}
+     */
+    public static JsonParser createParser(Object source) throws IOException {
+        if (source instanceof String) {
+            return createParser((String) source);
+        } else if (source instanceof byte[]) {
+            return createParser((byte[]) source);
+        } else if (source instanceof Path) {
+            return createParser((Path) source);
+        } else if (source instanceof File) {
+            return createParser(((File) source).toPath());
+        } else if (source instanceof InputStream) {
+            return createParser((InputStream) source);
+        } else if (source instanceof Reader) {
+            return createParser((Reader) source);
+        }
+        throw new IllegalArgumentException("Cannot read JSON content from " + (source == null ? null : source.getClass().getName()));
+    }
+
+    /**
+     * Files of at least {@link #MEMORY_MAPPING_THRESHOLD} bytes are memory-mapped, so their content is neither copied on the heap nor read twice.
+     */
+    public static JsonParser createParser(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size >= MEMORY_MAPPING_THRESHOLD && size <= Integer.MAX_VALUE) {
+                return MAPPER.createParser(new ByteBufferBackedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)));
+            }
+        }
+        return MAPPER.createParser(Files.newInputStream(path));
+    }
+
+    /**
+     * Reads the JSON value at the current token of the given parser (or at the next one, if the parser was not yet advanced),
+     * with the same number handling as {@link #toJson(Object)}.
+     *
+     * @return null if there is no more content
+     */
+    public static JsonNode readTree(JsonParser parser) throws IOException {
+        return VALUE_READER.readTree(parser);
+    }
+
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return MAPPER.createParser(in);
+    }
+
+    public static JsonParser createParser(Reader reader) throws IOException {
+        return MAPPER.createParser(reader);
+    }
+
+    public static JsonParser createParser(byte[] content) throws IOException {
+        return MAPPER.createParser(content);
+    }
+
+    public static JsonParser createParser(String content) throws IOException {
+        return MAPPER.createParser(content);
+    }
+
+    /**
+     * Pretty prints the given JSON directly into the given writer, which is closed.
+     */
+    public static void prettyPrint(JsonNode content, Writer writer) throws IOException {
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(writer, content);
+    }
+
+    /**
+     * Pretty prints the JSON read from the given parser directly into the given writer, which is closed, without building its tree.
+     */
+    public static void prettyPrint(JsonParser content, Writer writer) throws IOException {
+        try (JsonGenerator generator = MAPPER.getFactory().createGenerator(writer).useDefaultPrettyPrinter()) {
+            while (content.nextToken() != null) {
+                generator.copyCurrentEventExact(content);
+            }
+        }
     }
 
     public static String prettyPrint(Object content) throws IOException {
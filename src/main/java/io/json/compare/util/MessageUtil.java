@@ -1,15 +1,33 @@
 package io.json.compare.util;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Crops long messages, keeping only their beginning and their end.<br>
+ * The S, M and L crop limits can be set by the {@value #CROP_S_PROPERTY}, {@value #CROP_M_PROPERTY}
+ * and {@value #CROP_L_PROPERTY} system properties.
+ */
 public final class MessageUtil {
 
     private MessageUtil() {
 
     }
 
+    static final String CROPPED_CONTENT = System.lineSeparator() + System.lineSeparator() +
+            "<...cropped content...>" + System.lineSeparator() + System.lineSeparator();
+
+    public static final String CROP_S_PROPERTY = "json.compare.crop.s";
+    public static final String CROP_M_PROPERTY = "json.compare.crop.m";
+    public static final String CROP_L_PROPERTY = "json.compare.crop.l";
+
     private static final int AFTER_CROP_SIZE = 2048;
-    private static final int S = 4096;
-    private static final int M = 8192;
-    private static final int L = 65535;
+    private static final int S = limit(CROP_S_PROPERTY, 4096);
+    private static final int M = limit(CROP_M_PROPERTY, 8192);
+    private static final int L = limit(CROP_L_PROPERTY, 65535);
 
     public static String cropS(String msg) {
         return crop(msg, S);
@@ -23,13 +41,52 @@ public final class MessageUtil {
         return crop(msg, L);
     }
 
+    /**
+     * Pretty prints the given JSON, cropped as {@link #cropL(String)} does, without rendering it entirely.
+     */
+    public static String cropL(JsonNode json) {
+        return crop(json, L);
+    }
+
+    /**
+     * Pretty prints the JSON read from the given parser, cropped as {@link #cropL(String)} does, without building its tree.
+     */
+    public static String cropL(JsonParser json) throws IOException {
+        CroppingWriter writer = new CroppingWriter(L, afterCropSize(L));
+        JsonUtils.prettyPrint(json, writer);
+        return writer.toString();
+    }
+
+    private static int limit(String property, int defaultLimit) {
+        int limit = Integer.getInteger(property, defaultLimit);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Crop limit " + property + " must be positive: " + limit);
+        }
+        return limit;
+    }
+
+    /**
+     * @return the number of chars kept once cropped, which is never more than the limit
+     */
+    private static int afterCropSize(int limit) {
+        return Math.min(AFTER_CROP_SIZE, limit);
+    }
+
     private static String crop(String msg, int limit) {
         if (msg != null && msg.length() > limit) {
-            String start = msg.substring(0, AFTER_CROP_SIZE / 2) + System.lineSeparator() + System.lineSeparator() +
-                    "<...cropped content...>" + System.lineSeparator() + System.lineSeparator();
-            String end = msg.substring(msg.length() - AFTER_CROP_SIZE / 2);
-            return start + end;
+            int half = afterCropSize(limit) / 2;
+            return msg.substring(0, half) + CROPPED_CONTENT + msg.substring(msg.length() - half);
         }
         return msg;
     }
+
+    private static String crop(JsonNode json, int limit) {
+        CroppingWriter writer = new CroppingWriter(limit, afterCropSize(limit));
+        try {
+            JsonUtils.prettyPrint(json, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
 }
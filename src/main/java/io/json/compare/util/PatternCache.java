@@ -0,0 +1,70 @@
+package io.json.compare.util;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Thread-safe, size-capped cache of compiled regular expressions, whose hits never take a lock.<br>
+ * Eviction is approximate: once the cache is full, it is emptied before caching the next expression.<br>
+ * Invalid regular expressions are cached as well (as empty results), so that the
+ * {@link PatternSyntaxException} path is taken only once per expression.
+ */
+public final class PatternCache {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final int maxSize;
+    private final Map<String, Optional<Pattern>> patterns;
+
+    public PatternCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Pattern cache size cannot be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.patterns = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the compiled pattern, or empty if the given regex is invalid
+     */
+    public Optional<Pattern> get(String regex) {
+        Optional<Pattern> pattern = patterns.get(regex);
+        if (pattern != null) {
+            return pattern;
+        }
+        pattern = compile(regex);
+        if (maxSize > 0) {
+            if (patterns.size() >= maxSize) {
+                patterns.clear();
+            }
+            Optional<Pattern> cached = patterns.putIfAbsent(regex, pattern);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return pattern;
+    }
+
+    public int size() {
+        return patterns.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void clear() {
+        patterns.clear();
+    }
+
+    private static Optional<Pattern> compile(String regex) {
+        try {
+            return Optional.of(Pattern.compile(regex, Pattern.DOTALL | Pattern.MULTILINE));
+        } catch (PatternSyntaxException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.json.compare.util;
+
+public final class RegexUtils {
+
+    private static final String QUOTE_START = "\\Q";
+    private static final String QUOTE_END = "\\E";
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private RegexUtils() {
+
+    }
+
+    /**
+     * Classifies the given regex in a single scan: a regex is literal if it has no metacharacters,
+     * or if it is entirely quoted between \Q and \E delimiters
+     *
+     * @return the text matched by a literal regex, or null if the regex is not literal
+     */
+    public static String literalOf(String regex) {
+        if (!hasMetaCharacters(regex)) {
+            return regex;
+        }
+        if (isQuoted(regex)) {
+            return regex.endsWith(QUOTE_END) && regex.length() >= QUOTE_START.length() + QUOTE_END.length()
+                    ? regex.substring(QUOTE_START.length(), regex.length() - QUOTE_END.length())
+                    : regex.substring(QUOTE_START.length());
+        }
+        return null;
+    }
+
+    private static boolean hasMetaCharacters(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (META_CHARACTERS.indexOf(value.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isQuoted(String regex) {
+        if (!regex.startsWith(QUOTE_START)) {
+            return false;
+        }
+        int end = regex.indexOf(QUOTE_END, QUOTE_START.length());
+        // either quoted until the end of the regex, or closed by the very last \E
+        return end < 0 || end == regex.length() - QUOTE_END.length();
+    }
+}
@@ -0,0 +1,45 @@
+package io.json.compare.matcher;
+
+import io.json.compare.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ExpectedNodeTest {
+
+    @Test
+    public void countUseCasesOfArrayElements() throws IOException {
+        ExpectedNode expected = ExpectedNode.of(JsonUtils.toJson("[1, \"!a\", \"!.*\", \".*\", \"\\\\!b\", {\"#($.a)\":1}, [\"!x\"], {\"a\":\"!1\"}]"));
+        assertEquals(3, expected.getDoNotMatchUseCases());
+        assertEquals(5, expected.getPositiveChildren());
+        assertEquals(AbstractJsonMatcher.UseCase.DO_NOT_MATCH, expected.getElements().get(1).getNodeUseCase());
+        assertEquals(AbstractJsonMatcher.UseCase.MATCH, expected.getElements().get(4).getNodeUseCase());
+        assertEquals(AbstractJsonMatcher.UseCase.MATCH, expected.getElements().get(7).getNodeUseCase());
+    }
+
+    @Test
+    public void countUseCasesOfObjectFields() throws IOException {
+        ExpectedNode expected = ExpectedNode.of(JsonUtils.toJson("{\"a\":1, \"!b\":2, \"!.*\":3, \".*\":4, \"#($.c)\":5, \"\\\\!d\":6}"));
+        assertEquals(3, expected.getDoNotMatchUseCases());
+        assertEquals(3, expected.getPositiveChildren());
+        assertEquals(AbstractJsonMatcher.UseCase.DO_NOT_MATCH, expected.getFields().get(1).getUseCase());
+        assertEquals("!d", expected.getFields().get(5).getSanitizedName());
+    }
+
+    @Test
+    public void classifyRegexLiteralsOnce() throws IOException {
+        ExpectedNode expected = ExpectedNode.of(JsonUtils.toJson("{\"a\":\"\\\\Q1.5\\\\E\", \"b.*\":\"x.*\", \"!c\":\"y\", \"d\":[1.5]}"));
+        List<ExpectedNode.Field> fields = expected.getFields();
+        assertEquals("a", fields.get(0).getRegexLiteral());
+        assertEquals("1.5", fields.get(0).getValue().getRegexLiteral());
+        assertNull(fields.get(1).getRegexLiteral());
+        assertNull(fields.get(1).getValue().getRegexLiteral());
+        assertEquals("c", fields.get(2).getRegexLiteral());
+        assertNull(fields.get(3).getValue().getRegexLiteral());
+        assertNull(fields.get(3).getValue().getElements().get(0).getRegexLiteral());
+    }
+}
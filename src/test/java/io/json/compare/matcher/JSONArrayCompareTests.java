@@ -1,9 +1,18 @@
 package io.json.compare.matcher;
 
+import io.json.compare.CompareMode;
+import io.json.compare.DefaultJsonComparator;
 import io.json.compare.JSONCompare;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
 public class JSONArrayCompareTests {
 
     @Test
@@ -125,4 +134,132 @@ public class JSONArrayCompareTests {
         String actual = "[\"val2\",\"val1\",[10,10,false,[\"notval3\"]]]";
         JSONCompare.assertNotMatches(expected, actual);
     }
+
+    @Test
+    public void compareArraysOfHeterogeneousObjects() {
+        StringBuilder actual = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            actual.append(i % 3 == 0 ? "{\"type\":\"click\",\"id\":" + i + "}" : i % 3 == 1 ? "{\"type\":\"view\",\"page\":\"p" + i + "\"}" : "[" + i + "]")
+                    .append(",");
+        }
+        actual.append("\"end\"]");
+        JSONCompare.assertMatches("[{\"type\":\"view\",\"page\":\"p1999\"},{\"id\":1998},[\"\\\\d+\"],{\"type\":\"cl.*\"},\"end\"]", actual.toString());
+        JSONCompare.assertNotMatches("[{\"type\":\"view\",\"id\":0}]", actual.toString());
+        JSONCompare.assertNotMatches("[{\"type\":\"view\",\"page\":\"p2000\"}]", actual.toString());
+    }
+
+    @Test
+    public void compareArraysWithAndWithoutCandidateFiltering() {
+        // a subclass of the default comparator disables the literal shortcuts, but must produce the same differences
+        String[] elements = {"1", "1.0", "\"1\"", "true", "\"true\"", "null", "\"null\"", "\".*\"", "\"!1\"", "{}", "[]",
+                "{\"a\":1}", "{\"a\":\"1\"}", "{\"a\":[1]}", "{\"a\":1,\"b\":2}", "{\"a.*\":\".*\"}", "{\"!b\":2}",
+                "[1,2]", "[2,1]", "[\"!1\"]", "[{\"a\":{}}]", "{\"a\":{\"b\":null}}", "{\"b\":2,\"a\":1}", "[[1],[\"1\"]]"};
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            String expected = randomArray(random, elements, 4);
+            String actual = randomArray(random, elements, 6);
+            for (Set<CompareMode> modes : Arrays.asList(new HashSet<CompareMode>(),
+                    new HashSet<>(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_NON_EXTENSIBLE)),
+                    new HashSet<>(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_NON_EXTENSIBLE,
+                            CompareMode.REGEX_DISABLED)))) {
+                DefaultJsonComparator plainComparator = new DefaultJsonComparator(modes) {
+                };
+                Assertions.assertEquals(JSONCompare.diffs(expected, actual, plainComparator, modes), JSONCompare.diffs(expected, actual, modes),
+                        expected + " vs " + actual);
+            }
+        }
+    }
+
+    @Test
+    public void compareLargeArraysOfLiteralRecords() {
+        StringBuilder expected = new StringBuilder("[");
+        StringBuilder actual = new StringBuilder("[");
+        for (int i = 0; i < 20000; i++) {
+            expected.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"tags\":[\"t").append(i % 7).append("\",\"x\"]}");
+            actual.append(i > 0 ? "," : "").append("{\"tags\":[\"x\",\"t").append((19999 - i) % 7).append("\"],\"id\":").append(19999 - i).append("}");
+        }
+        Set<CompareMode> modes = new HashSet<>(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_NON_EXTENSIBLE));
+        JSONCompare.assertMatches(expected + "]", actual + "]", modes);
+        List<String> diffs = JSONCompare.diffs(expected + ",{\"id\":1,\"tags\":[\"t1\",\"x\"]}]", actual + "]", modes);
+        Assertions.assertEquals(1, diffs.size());
+        Assertions.assertTrue(diffs.get(0).contains("Expected element from position 20001 was NOT FOUND"));
+    }
+
+    @Test
+    public void compareArraysWherePermissiveElementsComeFirst() {
+        JSONCompare.assertMatches("[\".*\", \"a\"]", "[\"a\", \"b\"]");
+        JSONCompare.assertMatches("[\"\\\\w+\", \"\\\\d+\", 1]", "[1, \"b\", 2]");
+        JSONCompare.assertMatches("[{\"id\":\".*\"}, {\"id\":1,\"name\":\"x\"}]", "[{\"id\":1,\"name\":\"x\"}, {\"id\":2}]");
+        List<String> diffs = JSONCompare.diffs("[\".*\", \"a\", \"b\", \"c\"]", "[\"a\", \"b\", \"d\"]");
+        Assertions.assertEquals(1, diffs.size());
+        Assertions.assertTrue(diffs.get(0).contains("Expected element from position 4 was NOT FOUND"));
+    }
+
+    @Test
+    public void compareArraysAgainstExhaustiveAssignment() {
+        String[] elements = {"1", "\"1\"", "\"\\\\d\"", "\".+\"", "true", "\"t.*\"", "{\"a\":1}", "{\"a\":\".*\"}", "[1]", "[\".*\"]"};
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            List<String> expected = randomElements(random, elements, 5);
+            List<String> actual = randomElements(random, elements, 6);
+            boolean[][] compatible = new boolean[expected.size()][actual.size()];
+            for (int e = 0; e < expected.size(); e++) {
+                for (int a = 0; a < actual.size(); a++) {
+                    compatible[e][a] = JSONCompare.matches(expected.get(e), actual.get(a));
+                }
+            }
+            Assertions.assertEquals(canAssign(compatible, 0, new boolean[actual.size()]),
+                    JSONCompare.matches(expected.toString(), actual.toString()), expected + " vs " + actual);
+        }
+    }
+
+    @Test
+    public void compareLargeArraysWithUseCases() {
+        StringBuilder expected = new StringBuilder("[");
+        StringBuilder actual = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            expected.append(i > 0 ? "," : "").append(i % 2 == 0 ? "\".*\"" : "\"!x" + i + "\"");
+            actual.append(i > 0 ? "," : "").append("\"v").append(i).append("\"");
+        }
+        JSONCompare.assertMatches(expected + "]", actual + "]");
+        JSONCompare.assertNotMatches(expected + ",\"!.*\"]", actual + "]");
+        List<String> diffs = JSONCompare.diffs(expected + ",\"!v1999\"]", actual + ",\"v1999\"]");
+        Assertions.assertEquals(1, diffs.size());
+        Assertions.assertTrue(diffs.get(0).contains("Expected element from position 2001 was FOUND"));
+    }
+
+    private static boolean canAssign(boolean[][] compatible, int expPosition, boolean[] used) {
+        if (expPosition == compatible.length) {
+            return true;
+        }
+        for (int a = 0; a < used.length; a++) {
+            if (compatible[expPosition][a] && !used[a]) {
+                used[a] = true;
+                boolean assigned = canAssign(compatible, expPosition + 1, used);
+                used[a] = false;
+                if (assigned) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<String> randomElements(Random random, String[] elements, int maxSize) {
+        List<String> list = new ArrayList<>();
+        int size = random.nextInt(maxSize + 1);
+        for (int i = 0; i < size; i++) {
+            list.add(elements[random.nextInt(elements.length)]);
+        }
+        return list;
+    }
+
+    private static String randomArray(Random random, String[] elements, int maxSize) {
+        StringBuilder sb = new StringBuilder("[");
+        int size = random.nextInt(maxSize + 1);
+        for (int i = 0; i < size; i++) {
+            sb.append(i > 0 ? "," : "").append(elements[random.nextInt(elements.length)]);
+        }
+        return sb.append("]").toString();
+    }
 }
@@ -0,0 +1,164 @@
+package io.json.compare.matcher;
+
+import io.json.compare.CompareMode;
+import io.json.compare.CompiledExpectation;
+import io.json.compare.JSONCompare;
+import io.json.compare.JsonComparator;
+import io.json.compare.MatchOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONArrayKeysTests {
+
+    private static final MatchOptions ID_KEYS = MatchOptions.defaults().withArrayKeys("id");
+
+    @Test
+    public void joinArrayElementsByKey() {
+        String expected = "[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b.*\"},{\"id\":\"3\"}]";
+        String actual = "[{\"id\":3,\"name\":\"c\"},{\"id\":2,\"name\":\"bb\"},{\"id\":1,\"name\":\"a\"}]";
+        JSONCompare.compile(expected, null, null, ID_KEYS).assertMatches(actual);
+        JSONCompare.compile(expected, null, null, ID_KEYS).assertNotMatches("[{\"id\":3},{\"id\":2,\"name\":\"c\"},{\"id\":1,\"name\":\"a\"}]");
+    }
+
+    @Test
+    public void reportMissingKey() {
+        List<String> diffs = JSONCompare.compile("[{\"id\":1},{\"id\":5,\"name\":\"x\"}]", null, null, ID_KEYS)
+                .diffs("[{\"id\":1},{\"id\":2,\"name\":\"x\"}]");
+        assertEquals(1, diffs.size());
+        assertTrue(diffs.get(0).contains("Expected element from position 2 with key id=5 was NOT FOUND"));
+    }
+
+    @Test
+    public void reportDifferencesOfElementHavingSameKey() {
+        List<String> diffs = JSONCompare.compile("{\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]}", null, null, ID_KEYS)
+                .diffs("{\"items\":[{\"id\":2,\"name\":\"c\"},{\"id\":1,\"name\":\"a\"}]}");
+        assertEquals(1, diffs.size());
+        assertTrue(diffs.get(0).contains("Expected element from position 2 with key id=2 differs from actual element at position 1"));
+        assertTrue(diffs.get(0).contains("name -> " + System.lineSeparator() + "Expected value: \"b\" But got: \"c\""));
+    }
+
+    @Test
+    public void joinElementsHavingDuplicateKeys() {
+        // the first expected element would take the only actual element matched by the second one
+        String expected = "[{\"id\":1,\"v\":\".*\"},{\"id\":1,\"v\":\"a\"}]";
+        String actual = "[{\"id\":1,\"v\":\"a\"},{\"id\":1,\"v\":\"b\"}]";
+        CompiledExpectation expectation = JSONCompare.compile(expected, null, null, ID_KEYS);
+        expectation.assertMatches(actual);
+        assertTrue(expectation.matches(actual));
+        List<String> diffs = expectation.diffs("[{\"id\":1,\"v\":\"x\"},{\"id\":1,\"v\":\"b\"}]");
+        assertEquals(1, diffs.size());
+        assertTrue(diffs.get(0).contains("Expected element from position 2 with key id=1 differs from actual element at position 2"));
+    }
+
+    @Test
+    public void reportUnexpectedKeys() {
+        Set<CompareMode> modes = new HashSet<>(Collections.singletonList(CompareMode.JSON_ARRAY_NON_EXTENSIBLE));
+        CompiledExpectation expectation = JSONCompare.compile("[{\"id\":1},{\"id\":2}]", null, modes, ID_KEYS);
+        List<String> diffs = expectation.diffs("[{\"id\":2},{\"id\":7},{\"id\":1},{\"id\":8}]");
+        assertEquals(2, diffs.size());
+        assertTrue(diffs.get(0).contains("Actual JSON ARRAY has unexpected element with key id=7"));
+        assertTrue(diffs.get(1).contains("Actual JSON ARRAY has unexpected element with key id=8"));
+        assertEquals(Collections.singletonList("Actual JSON ARRAY has extra elements"), expectation.diffs("[{\"id\":2},{\"id\":1},3]"));
+        expectation.assertMatches("[{\"id\":2},{\"id\":1}]");
+    }
+
+    @Test
+    public void doNotReportKeyedElementsMatchedByUnkeyedElementsAsUnexpected() {
+        Set<CompareMode> modes = new HashSet<>(Collections.singletonList(CompareMode.JSON_ARRAY_NON_EXTENSIBLE));
+        CompiledExpectation expectation = JSONCompare.compile("[{\"id\":1,\"n\":\"a\"},{\"n\":\"x\"}]", null, modes, ID_KEYS);
+        List<String> diffs = expectation.diffs("[{\"id\":1,\"n\":\"a\"},{\"id\":7,\"n\":\"x\"},{\"id\":9,\"n\":\"y\"}]");
+        assertEquals(1, diffs.size());
+        assertTrue(diffs.get(0).contains("Actual JSON ARRAY has unexpected element with key id=9"));
+        expectation.assertMatches("[{\"id\":7,\"n\":\"x\"},{\"id\":1,\"n\":\"a\"}]");
+    }
+
+    @Test
+    public void joinByCompositeKeys() {
+        MatchOptions options = MatchOptions.defaults().withArrayKeys("id", "region");
+        String expected = "[{\"id\":1,\"region\":\"eu\",\"v\":1},{\"id\":1,\"region\":\"us\",\"v\":2}]";
+        JSONCompare.compile(expected, null, null, options).assertMatches("[{\"id\":1,\"region\":\"us\",\"v\":2},{\"id\":1,\"region\":\"eu\",\"v\":1}]");
+        List<String> diffs = JSONCompare.compile(expected, null, null, options).diffs("[{\"id\":1,\"region\":\"us\",\"v\":2}]");
+        assertEquals(1, diffs.size());
+        assertTrue(diffs.get(0).contains("with key id=1, region=eu was NOT FOUND"));
+    }
+
+    @Test
+    public void joinByKeysAtPath() {
+        MatchOptions options = MatchOptions.defaults().withArrayKeysAt("$.orders", "orderId").withArrayKeysAt("$.orders[*].items", "sku");
+        String expected = "{\"orders\":[{\"orderId\":1,\"items\":[{\"sku\":\"a\",\"qty\":1},{\"sku\":\"b\",\"qty\":2}]}],\"tags\":[{\"sku\":\"x\"}]}";
+        CompiledExpectation expectation = JSONCompare.compile(expected, null, null, options);
+        expectation.assertMatches("{\"orders\":[{\"orderId\":2},{\"orderId\":1,\"items\":[{\"sku\":\"b\",\"qty\":2},{\"sku\":\"a\",\"qty\":1}]}]," +
+                "\"tags\":[{\"sku\":\"x\"}]}");
+        List<String> diffs = expectation.diffs("{\"orders\":[{\"orderId\":1,\"items\":[{\"sku\":\"b\",\"qty\":3},{\"sku\":\"a\",\"qty\":1}]}]," +
+                "\"tags\":[{\"sku\":\"y\"}]}");
+        assertEquals(2, diffs.size());
+        assertTrue(diffs.get(0).contains("Expected element from position 1 with key orderId=1 differs from actual element at position 1"));
+        assertTrue(diffs.get(0).contains("Expected element from position 2 with key sku=b differs from actual element at position 1"));
+        assertTrue(diffs.get(1).contains("Expected element from position 1 was NOT FOUND"));
+        assertThrows(IllegalArgumentException.class, () -> MatchOptions.defaults().withArrayKeysAt("orders", "id"));
+        // keys by path are resolved once per compiled expectation, then shared by concurrent comparisons
+        IntStream.range(0, 100).parallel().forEach(i -> assertEquals(diffs, expectation.diffs("{\"orders\":[{\"orderId\":1,\"items\":" +
+                "[{\"sku\":\"b\",\"qty\":3},{\"sku\":\"a\",\"qty\":1}]}],\"tags\":[{\"sku\":\"y\"}]}")));
+    }
+
+    @Test
+    public void matchElementsWithoutLiteralKeysWithTheRemainingElements() {
+        String expected = "[{\"id\":\"\\\\d+\",\"name\":\"b\"},{\"id\":1},\".*\",\"!{\\\"id\\\":9}\"]";
+        JSONCompare.compile(expected, null, null, ID_KEYS).assertMatches("[{\"id\":2,\"name\":\"b\"},{\"id\":1},{\"id\":3}]");
+        JSONCompare.compile(expected, null, null, ID_KEYS).assertNotMatches("[{\"id\":1,\"name\":\"b\"},{\"id\":3}]");
+    }
+
+    @Test
+    public void keysHaveNoEffectWithCustomComparator() {
+        JsonComparator comparator = new JsonComparator() {
+            public boolean compareValues(Object expected, Object actual) {
+                return expected.toString().equals(actual.toString());
+            }
+
+            public boolean compareFields(String expected, String actual) {
+                return expected.equals(actual);
+            }
+        };
+        List<String> diffs = JSONCompare.compile("[{\"id\":5}]", comparator, null, ID_KEYS).diffs("[{\"id\":2}]");
+        assertEquals(1, diffs.size());
+        assertTrue(diffs.get(0).contains("Expected element from position 1 was NOT FOUND"));
+    }
+
+    @Test
+    public void keyedAndUnkeyedMatchingAgree() {
+        String[] elements = {"{\"id\":1}", "{\"id\":1,\"a\":2}", "{\"id\":\"1\"}", "{\"id\":2,\"a\":\"\\\\d\"}", "{\"id\":\".*\"}",
+                "{\"a\":2}", "\".*\"", "\"!.*\"", "1", "{\"id\":null}", "{\"id\":[1]}"};
+        Random random = new Random(5);
+        for (int i = 0; i < 500; i++) {
+            String expected = randomArray(random, elements, 5);
+            String actual = randomArray(random, elements, 6);
+            for (Set<CompareMode> modes : Arrays.asList(Collections.<CompareMode>emptySet(),
+                    new HashSet<>(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_NON_EXTENSIBLE)))) {
+                assertEquals(JSONCompare.matches(expected, actual, modes), JSONCompare.compile(expected, null, modes, ID_KEYS).matches(actual),
+                        expected + " vs " + actual);
+                assertEquals(JSONCompare.diffs(expected, actual, modes).isEmpty(), JSONCompare.compile(expected, null, modes, ID_KEYS)
+                        .diffs(actual).isEmpty(), expected + " vs " + actual);
+            }
+        }
+    }
+
+    private static String randomArray(Random random, String[] elements, int maxSize) {
+        StringBuilder sb = new StringBuilder("[");
+        int size = random.nextInt(maxSize + 1);
+        for (int i = 0; i < size; i++) {
+            sb.append(i > 0 ? "," : "").append(elements[random.nextInt(elements.length)]);
+        }
+        return sb.append("]").toString();
+    }
+}
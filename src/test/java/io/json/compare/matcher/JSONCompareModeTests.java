@@ -8,9 +8,13 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class JSONCompareModeTests {
 
     @Test
@@ -384,7 +388,31 @@ public class JSONCompareModeTests {
     public void compareJsonsWithRegexDisabledMode() {
         String expected = "[1, \"(.*)\", 3, 4, \"!.*\"]";
         String actual = "[4, \"(.*)\", 1, 3]";
+        JSONCompare.assertMatches(expected, actual);
+        JSONCompare.assertMatches(expected, actual, new HashSet<>(Collections.singletonList(CompareMode.REGEX_DISABLED)));
+        expected = "[1, \"a+\", 3, 4, \"!.*\"]";
+        actual = "[4, \"a+\", 1, 3]";
         JSONCompare.assertNotMatches(expected, actual);
         JSONCompare.assertMatches(expected, actual, new HashSet<>(Collections.singletonList(CompareMode.REGEX_DISABLED)));
     }
+
+    @Test
+    public void compareLargeJsonArraysWithJsonArrayStrictOrderMode() {
+        StringBuilder expected = new StringBuilder("[");
+        StringBuilder actual = new StringBuilder("[");
+        for (int i = 0; i < 100000; i++) {
+            expected.append(i % 1000 == 0 ? "\".*\"" : i % 1001 == 0 ? "\"!-1\"" : String.valueOf(i)).append(",");
+            actual.append(i).append(",");
+        }
+        expected.append("\"last\"]");
+        actual.append("\"last\",\"extra\"]");
+        JSONCompare.assertMatches(expected.toString(), actual.toString(), new HashSet<>(Arrays.asList(CompareMode.JSON_ARRAY_STRICT_ORDER)));
+        List<String> diffs = JSONCompare.diffs(expected.toString(), actual.toString(),
+                new HashSet<>(Arrays.asList(CompareMode.JSON_ARRAY_STRICT_ORDER, CompareMode.JSON_ARRAY_NON_EXTENSIBLE)));
+        assertEquals(1, diffs.size());
+        assertEquals("Actual JSON ARRAY has extra elements", diffs.get(0));
+        diffs = JSONCompare.diffs(actual.toString(), expected.toString(), new HashSet<>(Arrays.asList(CompareMode.JSON_ARRAY_STRICT_ORDER)));
+        assertEquals(200, diffs.size());
+        assertTrue(diffs.get(199).matches("(?s).*Expected element from position 100002 was NOT FOUND.*\"extra\".*"));
+    }
 }
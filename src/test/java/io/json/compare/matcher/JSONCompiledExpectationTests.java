@@ -0,0 +1,53 @@
+package io.json.compare.matcher;
+
+import io.json.compare.CompareMode;
+import io.json.compare.CompiledExpectation;
+import io.json.compare.JSONCompare;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONCompiledExpectationTests {
+
+    @Test
+    public void matchCompiledExpectationAgainstManyActuals() {
+        CompiledExpectation expectation = JSONCompare.compile("{\"id\":\"\\\\d+\",\"status\":\"ACTIVE\",\"!error\":\".*\"," +
+                "\"#($.items.length())\":2,\"items\":[\"a\",\"!c\",\".*\"]}");
+        expectation.assertMatches("{\"id\":\"10\",\"status\":\"ACTIVE\",\"items\":[\"b\",\"a\"]}");
+        expectation.assertMatches("{\"id\":\"11\",\"status\":\"ACTIVE\",\"items\":[\"a\",\"d\"],\"other\":true}");
+        expectation.assertNotMatches("{\"id\":\"11\",\"status\":\"ACTIVE\",\"items\":[\"a\",\"c\"]}");
+        expectation.assertNotMatches("{\"id\":\"11\",\"status\":\"ACTIVE\",\"error\":null,\"items\":[\"a\",\"d\"]}");
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> expectation.assertMatches("{\"id\":\"x\",\"status\":\"ACTIVE\",\"items\":[\"a\",\"d\"]}"));
+        assertTrue(error.getMessage().matches("(?s).*FOUND 1 DIFFERENCE.*id ->.*Expected value: \"\\\\\\\\d\\+\" But got: \"x\".*"));
+    }
+
+    @Test
+    public void compiledExpectationHasSameDiffsAsJsonCompare() {
+        String expected = "{\"a\":[1,2,{\"b\":\"c\"}],\"d\":\"!e\",\"f\":true}";
+        String actual = "{\"a\":[2,{\"b\":\"x\"}],\"d\":\"e\",\"f\":false,\"g\":1}";
+        HashSet<CompareMode> modes = new HashSet<>(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_STRICT_ORDER));
+        CompiledExpectation expectation = JSONCompare.compile(expected, modes);
+        assertEquals(JSONCompare.diffs(expected, actual, modes), expectation.diffs(actual));
+        assertEquals(JSONCompare.diffs(expected, actual, modes), expectation.diffs(actual));
+        modes.clear();
+        assertEquals(2, expectation.getCompareModes().size());
+    }
+
+    @Test
+    public void matchCompiledExpectationConcurrently() {
+        CompiledExpectation expectation = JSONCompare.compile("[{\"id\":\"\\\\d+\",\"tags\":[\"x\",\".*\"]}]");
+        List<List<String>> results = IntStream.range(0, 200).parallel()
+                .mapToObj(i -> expectation.diffs("[{\"id\":\"" + (i % 2 == 0 ? i : "n" + i) + "\",\"tags\":[\"y\",\"x\"]}]"))
+                .collect(Collectors.toList());
+        IntStream.range(0, 200).forEach(i -> assertEquals(i % 2 == 0, results.get(i).isEmpty()));
+    }
+}
@@ -0,0 +1,142 @@
+package io.json.compare.matcher;
+
+import io.json.compare.CompareMode;
+import io.json.compare.CompiledExpectation;
+import io.json.compare.JSONCompare;
+import io.json.compare.JsonComparator;
+import io.json.compare.MatchOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONDiffBudgetTests {
+
+    private static String object(int fields, int value) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < fields; i++) {
+            sb.append(i == 0 ? "" : ",").append("\"f").append(i).append("\":").append(value);
+        }
+        return sb.append("}").toString();
+    }
+
+    @Test
+    public void reportOnlyTheMaximumNumberOfDiffs() {
+        String expected = "[" + object(100, 1) + "," + object(100, 1) + "]";
+        String actual = "[" + object(100, 2) + "," + object(100, 2) + "]";
+        assertEquals(2, JSONCompare.diffs(expected, actual).size());
+        String expectedObject = "{\"a\":" + object(100, 1) + ",\"b\":" + object(100, 1) + "}";
+        String actualObject = "{\"a\":" + object(100, 2) + ",\"b\":" + object(100, 2) + "}";
+        assertEquals(200, JSONCompare.diffs(expectedObject, actualObject).size());
+
+        CompiledExpectation expectation = JSONCompare.compile(expectedObject, null, null, MatchOptions.defaults().withMaxDiffs(10));
+        List<String> diffs = expectation.diffs(actualObject);
+        assertEquals(11, diffs.size());
+        assertEquals(JSONCompare.diffs(expectedObject, actualObject).subList(0, 10), diffs.subList(0, 10));
+        assertEquals("Further differences omitted, matching stopped after more than 10 difference(s)", diffs.get(10));
+        assertEquals(JsonDiff.Kind.OMITTED_DIFFERENCES, expectation.differences(actualObject).get(10).getKind());
+    }
+
+    @Test
+    public void doNotCountDiffsWhichWereNotSearchedFor() {
+        List<String> diffs = JSONCompare.compile(object(300, 1), null, null, MatchOptions.defaults().withMaxDiffs(5)).diffs(object(300, 2));
+        assertEquals(6, diffs.size());
+        assertEquals("Further differences omitted, matching stopped after more than 5 difference(s)", diffs.get(5));
+        diffs = JSONCompare.compile(object(300, 1), null, null, MatchOptions.defaults().withMaxDiffs(5).withMaxMessageSize(1)).diffs(object(300, 2));
+        assertEquals(2, diffs.size());
+        assertEquals("Further differences omitted, matching stopped after more than 5 difference(s)", diffs.get(1));
+    }
+
+    @Test
+    public void stopAssigningArrayElementsOnceBudgetIsExhausted() {
+        StringBuilder expected = new StringBuilder("[");
+        StringBuilder actual = new StringBuilder("[");
+        for (int i = 0; i < 400; i++) {
+            expected.append(i == 0 ? "" : ",").append("{\"v\":\"e").append(i).append("\"}");
+            actual.append(i == 0 ? "" : ",").append("{\"v\":\"a").append(i).append("\"}");
+        }
+        expected.append("]");
+        actual.append("]");
+        AtomicInteger comparisons = new AtomicInteger();
+        JsonComparator comparator = new JsonComparator() {
+            public boolean compareValues(Object expected, Object actual) {
+                comparisons.incrementAndGet();
+                return expected.equals(actual);
+            }
+
+            public boolean compareFields(String expected, String actual) {
+                comparisons.incrementAndGet();
+                return expected.equals(actual);
+            }
+        };
+        List<String> allDiffs = JSONCompare.compile(expected.toString(), comparator, null, MatchOptions.defaults()).diffs(actual.toString());
+        int allComparisons = comparisons.getAndSet(0);
+        assertEquals(400, allDiffs.size());
+
+        List<String> diffs = JSONCompare.compile(expected.toString(), comparator, null, MatchOptions.defaults().withMaxDiffs(5))
+                .diffs(actual.toString());
+        assertEquals(allDiffs.subList(0, 5), diffs.subList(0, 5));
+        assertEquals("Further differences omitted, matching stopped after more than 5 difference(s)", diffs.get(5));
+        // only the first 6 expected elements are searched for
+        assertTrue(comparisons.get() * 50 < allComparisons, comparisons.get() + " vs " + allComparisons);
+    }
+
+    @Test
+    public void summarizeOmittedDiffsOfArrayElements() {
+        String expected = "[{\"id\":1," + object(20, 1).substring(1) + "]";
+        String actual = "[{\"id\":1," + object(20, 2).substring(1) + "]";
+        for (CompiledExpectation expectation : new CompiledExpectation[]{
+                JSONCompare.compile(expected, null, Collections.singleton(CompareMode.JSON_ARRAY_STRICT_ORDER), MatchOptions.defaults().withMaxDiffs(3)),
+                JSONCompare.compile(expected, null, null, MatchOptions.defaults().withArrayKeys("id").withMaxDiffs(3))}) {
+            List<JsonDiff> diffs = expectation.differences(actual);
+            assertEquals(1, diffs.size());
+            assertEquals(JsonDiff.Kind.ELEMENT_MISMATCH, diffs.get(0).getKind());
+            assertEquals(4, diffs.get(0).getChildren().size());
+            assertEquals(JsonDiff.Kind.OMITTED_DIFFERENCES, diffs.get(0).getChildren().get(3).getKind());
+            assertTrue(diffs.get(0).getMessage().endsWith("Further differences omitted, matching stopped after more than 3 difference(s)"));
+        }
+    }
+
+    @Test
+    public void reportAllDiffsWithinBudget() {
+        String expected = object(5, 1);
+        String actual = object(5, 2);
+        CompiledExpectation expectation = JSONCompare.compile(expected, null, null, MatchOptions.defaults().withMaxDiffs(5));
+        assertEquals(JSONCompare.diffs(expected, actual), expectation.diffs(actual));
+        assertTrue(expectation.matches(object(5, 1)));
+        assertFalse(expectation.matches(actual));
+    }
+
+    @Test
+    public void reportDiffsWithinMaximumMessageSize() {
+        String expected = object(50, 1);
+        String actual = object(50, 2);
+        List<String> allDiffs = JSONCompare.diffs(expected, actual);
+        int size = allDiffs.get(0).length() + allDiffs.get(1).length() + allDiffs.get(2).length();
+        List<String> diffs = JSONCompare.compile(expected, null, null, MatchOptions.defaults().withMaxMessageSize(size)).diffs(actual);
+        assertEquals(allDiffs.subList(0, 3), diffs.subList(0, 3));
+        assertEquals("47 more difference(s) omitted, out of 50", diffs.get(3));
+        // the first difference is always reported
+        assertEquals(2, JSONCompare.compile(expected, null, null, MatchOptions.defaults().withMaxMessageSize(1)).diffs(actual).size());
+    }
+
+    @Test
+    public void countReportedDiffsInAssertionMessage() {
+        AssertionError error = assertThrows(AssertionError.class, () -> JSONCompare.compile(object(20, 1), null, null,
+                MatchOptions.defaults().withMaxDiffs(3)).assertMatches(object(20, 2)));
+        assertTrue(error.getMessage().startsWith("FOUND 3 DIFFERENCE(S):"));
+        assertTrue(error.getMessage().contains("Further differences omitted, matching stopped after more than 3 difference(s)"));
+    }
+
+    @Test
+    public void rejectInvalidBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> MatchOptions.defaults().withMaxDiffs(0));
+        assertThrows(IllegalArgumentException.class, () -> MatchOptions.defaults().withMaxMessageSize(-1));
+    }
+}
@@ -1,12 +1,21 @@
 package io.json.compare.matcher;
 
 import io.json.compare.JSONCompare;
+import io.json.compare.util.JsonUtils;
 import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class JSONLargeCompareTests {
 
@@ -2299,6 +2308,31 @@ public class JSONLargeCompareTests {
 
     }
 
+    @Test
+    public void testVeryLargeJsonCompareFromFiles() throws Exception {
+        Path actual = Paths.get(Thread.currentThread().getContextClassLoader().getResource("bigJsons/actualLargeJson.json").toURI());
+        assertTrue(Files.size(actual) >= JsonUtils.MEMORY_MAPPING_THRESHOLD);
+        String expected = readFromRelativePath("bigJsons/expectedLargeJson.json");
+        JSONCompare.assertMatches(expected, actual);
+        JSONCompare.assertMatches(expected, actual.toFile());
+        JSONCompare.assertNotMatches(readFromRelativePath("bigJsons/expectedWrongLargeJson.json"), actual);
+        assertEquals(JSONCompare.diffs(expected, readFromRelativePath("bigJsons/actualLargeJson.json")),
+                JSONCompare.diffs(expected, Files.readAllBytes(actual)));
+        try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream("bigJsons/actualLargeJson.json")) {
+            assertTrue(JSONCompare.matches(expected, is));
+        }
+    }
+
+    @Test
+    public void cropVeryLargeJsonsInsideAssertionErrors() throws IOException {
+        String actual = readFromRelativePath("bigJsons/actualLargeJson.json");
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> JSONCompare.assertMatches(readFromRelativePath("bigJsons/expectedWrongLargeJson.json"), actual));
+        assertTrue(error.getActual().getStringRepresentation().contains("<...cropped content...>"));
+        assertTrue(error.getActual().getStringRepresentation().length() < actual.length());
+        assertTrue(error.getMessage().startsWith("FOUND "));
+    }
+
     private static String readFromRelativePath(String relativeFilePath) throws IOException {
         try (InputStream is = Thread.currentThread().getContextClassLoader().getResourceAsStream(relativeFilePath);
              ByteArrayOutputStream result = new ByteArrayOutputStream()) {
@@ -0,0 +1,61 @@
+package io.json.compare.matcher;
+
+import io.json.compare.CompareMode;
+import io.json.compare.DefaultJsonComparator;
+import io.json.compare.JSONCompare;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONMatchesTests {
+
+    @Test
+    public void matchesHasSameResultAsDiffs() {
+        String[][] jsons = {
+                {"{\"a\":1,\"b\":[1,2,{\"c\":\"d\"}]}", "{\"b\":[{\"c\":\"d\"},2,1],\"a\":1,\"e\":2}"},
+                {"{\"a\":1,\"b\":[1,2,{\"c\":\"d\"}]}", "{\"b\":[{\"c\":\"x\"},2,1],\"a\":1}"},
+                {"{\"a\":\"!1\",\"!b\":\".*\",\"#($.c.length())\":2}", "{\"a\":2,\"c\":[1,2]}"},
+                {"{\"a\":\"!1\",\"!b\":\".*\",\"#($.c.length())\":2}", "{\"a\":2,\"b\":0,\"c\":[1,2]}"},
+                {"[1,\"!2\",\".*\",\"!.*\"]", "[3,1]"},
+                {"[1,\"!2\",\".*\",\"!.*\"]", "[3,1,4]"},
+                {"{\"a\":[1,2]}", "{\"a\":[2,1,3]}"}};
+        for (Set<CompareMode> modes : Arrays.asList(new HashSet<CompareMode>(), new HashSet<>(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE,
+                CompareMode.JSON_ARRAY_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_STRICT_ORDER)))) {
+            for (String[] json : jsons) {
+                assertEquals(JSONCompare.diffs(json[0], json[1], modes).isEmpty(), JSONCompare.matches(json[0], json[1], modes),
+                        json[0] + " vs " + json[1]);
+                assertEquals(JSONCompare.diffs(json[0], json[1], modes).isEmpty(), JSONCompare.compile(json[0], modes).matches(json[1]));
+            }
+        }
+    }
+
+    @Test
+    public void matchesStopsAtFirstDifference() {
+        StringBuilder expected = new StringBuilder("{");
+        StringBuilder actual = new StringBuilder("{");
+        for (int i = 0; i < 100; i++) {
+            expected.append(i > 0 ? "," : "").append("\"f").append(i).append("\":\"v").append(i).append("\"");
+            actual.append(i > 0 ? "," : "").append("\"f").append(i).append("\":\"x").append(i).append("\"");
+        }
+        AtomicInteger comparisons = new AtomicInteger();
+        DefaultJsonComparator countingComparator = new DefaultJsonComparator(null) {
+            @Override
+            public boolean compareValues(Object expected, Object actual) {
+                comparisons.incrementAndGet();
+                return super.compareValues(expected, actual);
+            }
+        };
+        assertEquals(100, JSONCompare.diffs(expected + "}", actual + "}", countingComparator).size());
+        assertEquals(100, comparisons.getAndSet(0));
+        assertFalse(JSONCompare.matches(expected + "}", actual + "}", countingComparator));
+        assertEquals(1, comparisons.get());
+        assertTrue(JSONCompare.matches(expected + "}", expected + "}"));
+    }
+}
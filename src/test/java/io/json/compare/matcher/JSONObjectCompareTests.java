@@ -141,4 +141,25 @@ public class JSONObjectCompareTests {
         String actual = "{\"a\":\"val2\",\"b\":\"val1\",\"c\":\"val3\"}";
         JSONCompare.assertNotMatches(expected, actual);
     }
+
+    @Test
+    public void compareLiteralAndQuotedFieldsWithRegexFields() {
+        String expected = "{\"a\":1,\"\\\\Q(b)\\\\E\":2,\"c.*\":3,\"!d\":4}";
+        String actual = "{\"cx\":3,\"(b)\":2,\"a\":1}";
+        JSONCompare.assertMatches(expected, actual);
+        JSONCompare.assertNotMatches(expected, "{\"cx\":3,\"b\":2,\"a\":1}");
+        JSONCompare.assertNotMatches(expected, "{\"cx\":3,\"(b)\":2,\"a\":1,\"d\":4}");
+    }
+
+    @Test
+    public void compareLiteralFieldsWithWideObject() {
+        StringBuilder actual = new StringBuilder("{");
+        for (int i = 0; i < 1000; i++) {
+            actual.append("\"flag").append(i).append("\":").append(i).append(",");
+        }
+        actual.append("\"last\":true}");
+        JSONCompare.assertMatches("{\"flag999\":999,\"flag0\":0,\"last\":true,\"flag\\\\d+\":500}", actual.toString());
+        JSONCompare.assertNotMatches("{\"flag999\":998}", actual.toString());
+        JSONCompare.assertNotMatches("{\"flag1000\":\".*\"}", actual.toString());
+    }
 }
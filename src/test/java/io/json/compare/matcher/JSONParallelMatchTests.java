@@ -0,0 +1,108 @@
+package io.json.compare.matcher;
+
+import io.json.compare.CompareMode;
+import io.json.compare.DefaultJsonComparator;
+import io.json.compare.JSONCompare;
+import io.json.compare.MatchOptions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONParallelMatchTests {
+
+    private static ForkJoinPool forkJoinPool;
+    private static ExecutorService fixedPool;
+
+    @BeforeAll
+    public static void createPools() {
+        forkJoinPool = new ForkJoinPool(4);
+        fixedPool = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterAll
+    public static void shutdownPools() {
+        forkJoinPool.shutdown();
+        fixedPool.shutdown();
+    }
+
+    @Test
+    public void parallelMatchingHasSameDiffsAsSequentialMatching() {
+        String[] elements = {"1", "\"1\"", "\"\\\\d\"", "\".+\"", "\".*\"", "\"!1\"", "\"!.*\"", "true", "{\"a\":1}", "{\"a\":\".*\"}",
+                "{\"#($.a)\":1}", "[1]", "[\".*\", 1]", "[[1, \"x\"]]"};
+        Random random = new Random(3);
+        MatchOptions parallel = MatchOptions.defaults().withParallelism(forkJoinPool, 0);
+        for (int i = 0; i < 300; i++) {
+            String expected = randomArray(random, elements, 8);
+            String actual = randomArray(random, elements, 10);
+            for (Set<CompareMode> modes : Arrays.asList(Collections.<CompareMode>emptySet(),
+                    new HashSet<>(Arrays.asList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE, CompareMode.JSON_ARRAY_NON_EXTENSIBLE)))) {
+                assertEquals(JSONCompare.diffs(expected, actual, modes),
+                        JSONCompare.compile(expected, null, modes, parallel).diffs(actual), expected + " vs " + actual);
+            }
+        }
+    }
+
+    @Test
+    public void matchLargeArraysInParallel() {
+        StringBuilder expected = new StringBuilder("[");
+        StringBuilder actual = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            expected.append(i > 0 ? "," : "").append("{\"id\":\"").append(i % 10 == 0 ? "\\\\d+" : String.valueOf(i)).append("\",\"items\":[")
+                    .append(i).append(",\".*\"]}");
+            actual.append(i > 0 ? "," : "").append("{\"id\":\"").append(1999 - i).append("\",\"items\":[\"x\",").append(1999 - i).append("]}");
+        }
+        MatchOptions options = MatchOptions.defaults().withParallelism(fixedPool, 100);
+        JSONCompare.compile(expected + "]", null, null, options).assertMatches(actual + "]");
+        List<String> diffs = JSONCompare.compile(expected + ",{\"id\":\"a\"}]", null, null, options).diffs(actual + "]");
+        assertEquals(1, diffs.size());
+        assertTrue(diffs.get(0).contains("Expected element from position 2001 was NOT FOUND"));
+        assertEquals(diffs, JSONCompare.diffs(expected + ",{\"id\":\"a\"}]", actual + "]"));
+    }
+
+    @Test
+    public void parallelMatchingRethrowsComparatorExceptions() {
+        DefaultJsonComparator failingComparator = new DefaultJsonComparator(null) {
+            @Override
+            public boolean compareValues(Object expected, Object actual) {
+                throw new IllegalStateException("comparator failure");
+            }
+        };
+        MatchOptions options = MatchOptions.defaults().withParallelism(forkJoinPool, 0);
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> JSONCompare.compile("[1,2]", failingComparator, null, options).diffs("[2,1]"));
+        assertEquals("comparator failure", e.getMessage());
+    }
+
+    @Test
+    public void matchOptionsAreImmutable() {
+        MatchOptions options = MatchOptions.defaults().withParallelism(forkJoinPool, 10);
+        assertEquals(forkJoinPool, options.getExecutor());
+        assertEquals(10, options.getParallelThreshold());
+        assertEquals(null, MatchOptions.defaults().getExecutor());
+        assertEquals(MatchOptions.DEFAULT_PARALLEL_THRESHOLD, MatchOptions.defaults().withParallelism(forkJoinPool).getParallelThreshold());
+        assertThrows(IllegalArgumentException.class, () -> MatchOptions.defaults().withParallelism(forkJoinPool, -1));
+    }
+
+    private static String randomArray(Random random, String[] elements, int maxSize) {
+        StringBuilder sb = new StringBuilder("[");
+        int size = random.nextInt(maxSize + 1);
+        for (int i = 0; i < size; i++) {
+            sb.append(i > 0 ? "," : "").append(elements[random.nextInt(elements.length)]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -5,6 +5,7 @@ import io.json.compare.JSONCompare;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -478,4 +479,26 @@ public class JSONPathCompareTests {
                 "]}";
         assertThrows(AssertionError.class, () -> JSONCompare.assertMatches(expected1, actual));
     }
+
+    @Test
+    public void compareJsonPathResultsWithExactNumberRepresentation() {
+        String actual = "{\"a\":1.50,\"b\":{\"c\":2.0,\"d\":[1.10,12345678901234567890]},\"e\":null,\"f\":true}";
+        JSONCompare.assertMatches("{\"#($.a)\":1.50}", actual);
+        JSONCompare.assertNotMatches("{\"#($.a)\":1.5}", actual);
+        JSONCompare.assertMatches("{\"#($.b)\":{\"c\":2.0,\"d\":[1.10,12345678901234567890]}}", actual);
+        JSONCompare.assertNotMatches("{\"#($.b.c)\":2}", actual);
+        JSONCompare.assertMatches("{\"#($.b.d[1])\":12345678901234567890}", actual);
+        JSONCompare.assertMatches("{\"#($..d[0])\":[1.10]}", actual);
+        JSONCompare.assertMatches("{\"#($.e)\":null,\"#($.f)\":true}", actual);
+        JSONCompare.assertMatches("{\"#($.b.d[5])\":null}", actual);
+    }
+
+    @Test
+    public void compareJsonObjectsWithSeveralJsonPaths() {
+        String actual = "{\"a\":{\"b\":[1,2,3]},\"c\":\"x\",\"d\":{\"e\":true}}";
+        JSONCompare.assertMatches("{\"#($.a.b[0])\":1,\"#($.c)\":\"x\",\"!#($.f)\":\"any\",\"#($.d.e)\":true,\"a\":{\"b\":[3,2,1]}}", actual);
+        // a negative json path fails whenever its result is found, regardless of the expected value
+        assertEquals(Collections.singletonList("Json path '!#($.d.e)' was FOUND"),
+                JSONCompare.diffs("{\"#($.c)\":\"x\",\"!#($.d.e)\":false}", actual));
+    }
 }
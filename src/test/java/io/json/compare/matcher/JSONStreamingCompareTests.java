@@ -0,0 +1,158 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.json.compare.CompareMode;
+import io.json.compare.CompiledExpectation;
+import io.json.compare.DefaultJsonComparator;
+import io.json.compare.JSONCompare;
+import io.json.compare.MatchOptions;
+import io.json.compare.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONStreamingCompareTests {
+
+    private static final String ACTUAL = "{\"id\":1,\"name\":\"lorem\",\"price\":1.50,\"big\":{\"data\":[1,2,{\"x\":\"y\"}]}," +
+            "\"tags\":[\"a\",\"b\",{\"c\":[1,2]}],\"items\":[{\"id\":1,\"qty\":2,\"extra\":{\"k\":1}},{\"id\":2,\"qty\":0}],\"nothing\":null}";
+
+    @Test
+    public void streamOnlyTheFieldsReferencedByTheExpectedJson() throws IOException {
+        CompiledExpectation expectation = JSONCompare.compile("{\"id\":1,\"!big\":\".*\",\"items\":[{\"qty\":0},\".*\"]}");
+        try (JsonParser parser = JsonUtils.createParser(ACTUAL)) {
+            JsonNode actual = expectation.read(parser);
+            assertEquals(JsonUtils.toJson("{\"id\":1,\"big\":null,\"items\":[{\"qty\":2},{\"qty\":0}]}"), actual);
+        }
+    }
+
+    @Test
+    public void streamWholeSubtreesWhichAreNotMatchedByLiteralFields() throws IOException {
+        CompiledExpectation expectation = JSONCompare.compile("{\"id\":1,\"big\":{\"d.*\":[]},\"tags\":[{\"#($..c)\":[[1,2]]}]}");
+        try (JsonParser parser = JsonUtils.createParser(ACTUAL)) {
+            assertEquals(JsonUtils.toJson("{\"id\":1,\"big\":{\"data\":[1,2,{\"x\":\"y\"}]},\"tags\":[\"a\",\"b\",{\"c\":[1,2]}]}"),
+                    expectation.read(parser));
+        }
+    }
+
+    @Test
+    public void streamWholeJsonWhenMatchingNeedsIt() throws IOException {
+        List<CompiledExpectation> expectations = Arrays.asList(
+                JSONCompare.compile("{\"id\":1}", new HashSet<>(Collections.singletonList(CompareMode.JSON_OBJECT_NON_EXTENSIBLE))),
+                JSONCompare.compile("{\"id\":1}", new CustomComparator()),
+                JSONCompare.compile("{\"items\":[{\"id\":1}]}", null, null, MatchOptions.defaults().withArrayKeys("id")),
+                JSONCompare.compile("{\"id\":1,\".*\":\"lorem\"}"),
+                JSONCompare.compile("{\"id\":1,\"!.*\":\".*\"}"));
+        for (CompiledExpectation expectation : expectations) {
+            try (JsonParser parser = JsonUtils.createParser(ACTUAL)) {
+                assertEquals(JsonUtils.toJson(ACTUAL), expectation.read(parser));
+            }
+        }
+    }
+
+    @Test
+    public void compareStreamedJsonsLikeParsedJsons() throws IOException {
+        List<String> expectedJsons = Arrays.asList(
+                "{\"id\":1,\"price\":1.50}", "{\"id\":2}", "{\"price\":1.5}", "{\"!name\":\"lorem\"}", "{\"name\":\"!lorem\"}",
+                "{\"name\":\"lo.*\",\"big\":{\"data\":[2,1]}}", "{\"big\":{\"data\":[{\"x\":\"y\"},3]}}", "{\"big\":{\"data\":[\"!.*\"]}}",
+                "{\"tags\":[\"a\",{\"c\":[2]}]}", "{\"tags\":[\"!c\",\".*\",\".*\",\".*\"]}", "{\"tags\":[\".*\",\".*\",\".*\",\".*\"]}",
+                "{\"items\":[{\"id\":2,\"qty\":0},{\"id\":1,\"extra\":{\"k\":2}}]}", "{\"items\":{\"id\":1}}", "{\"big\":1}",
+                "{\"nothing\":null,\"!missing\":1}", "{\"id\":\"1\",\"#($.items[1].qty)\":0}", "{\"#($.items[?(@.qty > 1)].extra.k)\":[1]}",
+                "[1]", "\"lorem\"");
+        List<Set<CompareMode>> modes = Arrays.asList(EnumSet.noneOf(CompareMode.class), EnumSet.of(CompareMode.JSON_ARRAY_STRICT_ORDER),
+                EnumSet.of(CompareMode.JSON_ARRAY_NON_EXTENSIBLE), EnumSet.of(CompareMode.REGEX_DISABLED));
+        for (String expected : expectedJsons) {
+            for (Set<CompareMode> compareModes : modes) {
+                CompiledExpectation expectation = JSONCompare.compile(expected, compareModes);
+                try (JsonParser parser = JsonUtils.createParser(ACTUAL)) {
+                    assertEquals(expectation.diffs(ACTUAL), expectation.diffs(parser), expected + " " + compareModes);
+                }
+                try (JsonParser parser = JsonUtils.createParser(ACTUAL)) {
+                    assertEquals(expectation.matches(ACTUAL), expectation.matches(parser), expected + " " + compareModes);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void compareStreamedFieldValuesMatchingAnyLikeParsedJsons() {
+        List<String[]> cases = Arrays.asList(
+                new String[]{"{\"c\":\"!.*\"}", "{\"c\":\"x\"}"}, new String[]{"{\"c\":\"!.*\"}", "{\"c\":{\"d\":1}}"},
+                new String[]{"{\"c\":\"!.*\"}", "{\"c\":[1]}"}, new String[]{"{\"c\":\".*\"}", "{\"c\":{\"d\":1}}"},
+                new String[]{"{\"c\":\".*\"}", "{\"c\":null}"}, new String[]{"[{\"c\":\"!.*\"}]", "[{\"c\":\".*\"}]"},
+                new String[]{"[\"!.*\"]", "[{\"c\":1}]"}, new String[]{"[\".*\",{\"c\":1}]", "[[2],{\"c\":1}]"});
+        for (String[] jsons : cases) {
+            for (Set<CompareMode> compareModes : Arrays.asList(EnumSet.noneOf(CompareMode.class), EnumSet.of(CompareMode.REGEX_DISABLED))) {
+                CompiledExpectation expectation = JSONCompare.compile(jsons[0], compareModes);
+                byte[] actual = jsons[1].getBytes(StandardCharsets.UTF_8);
+                String message = jsons[0] + " " + jsons[1] + " " + compareModes;
+                assertEquals(expectation.diffs(jsons[1]), expectation.diffs(actual), message);
+                assertEquals(expectation.matches(jsons[1]), expectation.matches(actual), message);
+            }
+        }
+    }
+
+    @Test
+    public void compareStreamedJsonsThroughStaticMethods() throws IOException {
+        try (JsonParser parser = JsonUtils.createParser(ACTUAL)) {
+            JSONCompare.assertMatches("{\"items\":[{\"qty\":0}]}", parser);
+        }
+        try (JsonParser parser = JsonUtils.createParser(ACTUAL)) {
+            assertFalse(JSONCompare.matches("{\"items\":[{\"qty\":3}]}", parser));
+        }
+    }
+
+    @Test
+    public void attachOnlyWholeStreamedJsonsToAssertionErrors() throws IOException {
+        String actual = "{\"a\":2,\"b\":{\"deep\":[1,2,3]},\"other\":\"kept\",\"n\":1.50}";
+        CompiledExpectation expectation = JSONCompare.compile("{\"a\":1,\"!b\":2}");
+        AssertionFailedError error = assertThrows(AssertionFailedError.class,
+                () -> expectation.assertMatches(actual.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(JsonUtils.prettyPrint(actual), error.getActual().getStringRepresentation());
+        assertEquals(JsonUtils.prettyPrint("{\"a\":1,\"!b\":2}"), error.getExpected().getStringRepresentation());
+
+        error = assertThrows(AssertionFailedError.class,
+                () -> expectation.assertMatches(new ByteArrayInputStream(actual.getBytes(StandardCharsets.UTF_8))));
+        assertFalse(error.isActualDefined());
+        assertFalse(error.getMessage().contains("but was"));
+        try (JsonParser parser = JsonUtils.createParser(actual)) {
+            assertFalse(assertThrows(AssertionFailedError.class, () -> expectation.assertMatches(parser)).isActualDefined());
+        }
+
+        CompiledExpectation wholeExpectation = JSONCompare.compile("{\"a\":1}", EnumSet.of(CompareMode.JSON_OBJECT_NON_EXTENSIBLE));
+        error = assertThrows(AssertionFailedError.class,
+                () -> wholeExpectation.assertMatches(new ByteArrayInputStream(actual.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(JsonUtils.prettyPrint(actual), error.getActual().getStringRepresentation());
+    }
+
+    @Test
+    public void failOnInvalidStreamedJsons() throws IOException {
+        CompiledExpectation expectation = JSONCompare.compile("{\"id\":1}");
+        for (String actual : Arrays.asList("{\"id\":1} {}", "{\"id\":1", "{\"id\":}")) {
+            try (JsonParser parser = JsonUtils.createParser(actual)) {
+                RuntimeException e = assertThrows(RuntimeException.class, () -> expectation.diffs(parser));
+                assertTrue(e.getMessage().startsWith("Invalid JSON"));
+            }
+        }
+    }
+
+    private static class CustomComparator extends DefaultJsonComparator {
+        CustomComparator() {
+            super(null);
+        }
+    }
+}
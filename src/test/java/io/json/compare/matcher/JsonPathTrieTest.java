@@ -0,0 +1,68 @@
+package io.json.compare.matcher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.PathNotFoundException;
+import io.json.compare.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class JsonPathTrieTest {
+
+    @Test
+    public void parseSimpleJsonPaths() {
+        assertEquals(Arrays.asList(), JsonPathTrie.segments("$"));
+        assertEquals(Arrays.asList("store", "book", 0, "title"), JsonPathTrie.segments("$.store.book[0]['title']"));
+        assertEquals(Arrays.asList("a.b", "c d", 12), JsonPathTrie.segments("$['a.b'][\"c d\"][12]"));
+    }
+
+    @Test
+    public void ignoreComplexJsonPaths() {
+        for (String expression : Arrays.asList("a.b", "$..a", "$.a.*", "$.a[*]", "$.a[-1]", "$.a[0:2]", "$.a[0,1]", "$['a','b']",
+                "$.a[?(@.b)]", "$.a.length()", "$.a-b", "$.", "$['a\\'b']", "$.a[1234567890]", "$[")) {
+            assertNull(JsonPathTrie.segments(expression), expression);
+        }
+    }
+
+    @Test
+    public void resolveJsonPathsLikeJayway() throws IOException {
+        JsonNode expected = JsonUtils.toJson("{\"#($)\":1, \"#($.a)\":1, \"#($.a.b)\":1, \"#($.a['b'][1])\":1, \"#($.a.b[5])\":1, \"#($.a.c)\":1," +
+                "\"#($.a.b.c)\":1, \"#($.a[0])\":1, \"#($.d.e)\":1, \"#($.f)\":1, \"#($..b)\":1, \"!#($.g)\":1}");
+        JsonNode actual = JsonUtils.toJson("{\"a\":{\"b\":[1.50,{\"x\":null}],\"c\":\"text\"},\"d\":null,\"f\":false}");
+        List<ExpectedNode.Field> fields = ExpectedNode.of(expected).getFields();
+        JsonPathTrie trie = ExpectedNode.of(expected).getJsonPathTrie();
+        assertNotNull(trie);
+        JsonNode[] results = trie.resolve(actual);
+        DocumentContext documentContext = JsonPathMatcher.parse(actual);
+        for (int i = 0; i < fields.size(); i++) {
+            JsonNode jaywayResult;
+            try {
+                jaywayResult = JsonPathMatcher.read(fields.get(i), documentContext);
+            } catch (PathNotFoundException e) {
+                jaywayResult = null;
+            }
+            // paths without results are left to Jayway
+            if (results[i] != null) {
+                assertEquals(jaywayResult, results[i], fields.get(i).getName());
+            }
+        }
+        assertSame(actual, results[0]);
+        assertSame(actual.get("a").get("b"), results[2]);
+        assertNull(results[4]);
+        assertNull(results[10]);
+    }
+
+    @Test
+    public void noJsonPathTrieWithoutSimpleJsonPaths() throws IOException {
+        assertNull(ExpectedNode.of(JsonUtils.toJson("{\"a\":1, \"#($..a)\":1}")).getJsonPathTrie());
+        assertNull(ExpectedNode.of(JsonUtils.toJson("{\"a\":1}")).getJsonPathTrie());
+    }
+}
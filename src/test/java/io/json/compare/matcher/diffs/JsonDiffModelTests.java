@@ -0,0 +1,63 @@
+package io.json.compare.matcher.diffs;
+
+import io.json.compare.CompareMode;
+import io.json.compare.JSONCompare;
+import io.json.compare.matcher.JsonDiff;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonDiffModelTests {
+
+    @Test
+    void describeNestedFieldDifferences() {
+        String expected = "{\"a\":{\"b\":{\"c\":1,\"d\":true}},\"!e\":1,\"f\":\"x\"}";
+        String actual = "{\"a\":{\"b\":{\"c\":2,\"d\":\"true\"}},\"e\":2}";
+        List<JsonDiff> diffs = JSONCompare.differences(expected, actual);
+        assertEquals(Arrays.asList(JsonDiff.Kind.VALUE_MISMATCH, JsonDiff.Kind.VALUE_MISMATCH, JsonDiff.Kind.FIELD_FOUND, JsonDiff.Kind.FIELD_NOT_FOUND),
+                diffs.stream().map(JsonDiff::getKind).collect(Collectors.toList()));
+        assertEquals(Arrays.asList("a", "b", "c"), diffs.get(0).getPath());
+        assertEquals(1, diffs.get(0).getExpected().asInt());
+        assertEquals(2, diffs.get(0).getActual().asInt());
+        assertEquals("a -> b -> c -> " + diffs.get(0).getDescription(), diffs.get(0).getMessage());
+        assertEquals(Collections.emptyList(), diffs.get(2).getPath());
+        assertEquals(2, diffs.get(2).getActual().asInt());
+        assertNull(diffs.get(3).getActual());
+        assertEquals(JSONCompare.diffs(expected, actual), diffs.stream().map(JsonDiff::getMessage).collect(Collectors.toList()));
+    }
+
+    @Test
+    void describeArrayElementDifferences() {
+        String expected = "{\"items\":[{\"id\":1,\"qty\":2},{\"id\":3}],\"tags\":[\"a\",\"!b\"]}";
+        String actual = "{\"items\":[{\"id\":1,\"qty\":1},{\"id\":4}],\"tags\":[\"a\",\"b\"]}";
+        List<JsonDiff> diffs = JSONCompare.differences(expected, actual, null, EnumSet.of(CompareMode.JSON_ARRAY_STRICT_ORDER));
+        assertEquals(3, diffs.size());
+        JsonDiff first = diffs.get(0);
+        assertEquals(JsonDiff.Kind.ELEMENT_MISMATCH, first.getKind());
+        assertEquals(Collections.singletonList("items"), first.getPath());
+        assertEquals(1, first.getChildren().size());
+        assertEquals(Collections.singletonList("qty"), first.getChildren().get(0).getPath());
+        assertTrue(first.getMessage().contains(first.getChildren().get(0).getMessage()));
+        assertEquals(JsonDiff.Kind.ELEMENT_FOUND, diffs.get(2).getKind());
+        assertEquals(JSONCompare.diffs(expected, actual, EnumSet.of(CompareMode.JSON_ARRAY_STRICT_ORDER)),
+                diffs.stream().map(JsonDiff::getMessage).collect(Collectors.toList()));
+    }
+
+    @Test
+    void describeJsonPathAndTypeDifferences() {
+        List<JsonDiff> diffs = JSONCompare.differences("{\"#($.a)\":{\"b\":1},\"#($.c)\":1,\"d\":[]}", "{\"a\":{\"b\":2},\"d\":{}}");
+        assertEquals(Arrays.asList(JsonDiff.Kind.JSON_PATH_MISMATCH, JsonDiff.Kind.JSON_PATH_NOT_FOUND, JsonDiff.Kind.TYPE_MISMATCH),
+                diffs.stream().map(JsonDiff::getKind).collect(Collectors.toList()));
+        assertEquals(JsonDiff.Kind.VALUE_MISMATCH, diffs.get(0).getChildren().get(0).getKind());
+        assertEquals(Collections.singletonList("d"), diffs.get(2).getPath());
+        assertTrue(diffs.get(2).getActual().isObject());
+    }
+}
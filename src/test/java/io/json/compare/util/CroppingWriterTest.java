@@ -0,0 +1,69 @@
+package io.json.compare.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CroppingWriterTest {
+
+    @Test
+    public void cropLikeMessageUtil() {
+        for (int size : Arrays.asList(0, 1, 1024, 2048, 65534, 65535, 65536, 65537, 70000, 165536)) {
+            StringBuilder sb = new StringBuilder(size);
+            for (int i = 0; i < size; i++) {
+                sb.append((char) ('a' + i % 26));
+            }
+            String content = sb.toString();
+            CroppingWriter writer = new CroppingWriter(65535, 2048);
+            for (int i = 0; i < size; i += 1000) {
+                writer.write(content, i, Math.min(1000, size - i));
+            }
+            assertEquals(MessageUtil.cropL(content), writer.toString(), String.valueOf(size));
+            assertEquals(size > 65535, writer.isCropped());
+
+            CroppingWriter charWriter = new CroppingWriter(65535, 2048);
+            for (char c : content.toCharArray()) {
+                charWriter.write(c);
+            }
+            assertEquals(MessageUtil.cropL(content), charWriter.toString(), String.valueOf(size));
+        }
+    }
+
+    @Test
+    public void cropBelowTheCroppedSize() {
+        CroppingWriter writer = new CroppingWriter(10, 10);
+        writer.write("0123456789", 0, 10);
+        assertEquals("0123456789", writer.toString());
+        writer.write("abc", 0, 3);
+        assertEquals("01234" + MessageUtil.CROPPED_CONTENT + "89abc", writer.toString());
+        writer.write('d');
+        assertEquals("01234" + MessageUtil.CROPPED_CONTENT + "9abcd", writer.toString());
+
+        CroppingWriter emptyWriter = new CroppingWriter(1, 1);
+        emptyWriter.write("abc", 0, 3);
+        assertEquals(MessageUtil.CROPPED_CONTENT, emptyWriter.toString());
+    }
+
+    @Test
+    public void cropPrettyPrintedJson() throws IOException {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            sb.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"lorem ipsum\"}");
+        }
+        JsonNode json = JsonUtils.toJson(sb.append("]").toString());
+        String cropped = MessageUtil.cropL(json);
+        assertEquals(MessageUtil.cropL(JsonUtils.prettyPrint(json)), cropped);
+        assertTrue(cropped.length() < 65535);
+
+        JsonNode small = JsonUtils.toJson("{\"a\":[1,2]}");
+        assertEquals(JsonUtils.prettyPrint(small), MessageUtil.cropL(small));
+        assertEquals("null", MessageUtil.cropL((JsonNode) null));
+        assertFalse(MessageUtil.cropL(small).contains("cropped"));
+    }
+}
@@ -3,10 +3,15 @@ package io.json.compare.util;
 import com.fasterxml.jackson.core.JsonParseException;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,6 +31,25 @@ public class JsonUtilsTest {
         assertEquals(2, JsonUtils.toJson(map).get("a").asInt());
     }
 
+    @Test
+    public void readJsonSources() throws IOException {
+        String json = "{\"a\":[1.50,\"ü\"]}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Path file = Files.createTempFile("json-compare", ".json");
+        try {
+            Files.write(file, bytes);
+            for (Object source : Arrays.asList(bytes, file, file.toFile(), new ByteArrayInputStream(bytes), new StringReader(json))) {
+                assertTrue(JsonUtils.isJsonSource(source));
+                assertEquals(JsonUtils.toJson(json), JsonUtils.toJson(source));
+            }
+        } finally {
+            Files.delete(file);
+        }
+        assertTrue(JsonUtils.toJson(new byte[0]).isMissingNode());
+        assertThrows(IOException.class, () -> JsonUtils.toJson("{} []".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(JsonUtils.isJsonSource(json));
+    }
+
     @Test
     public void testBigJsonPrettyPrint() throws IOException {
         String json = readFromPath("bigJsons/actualLargeJson.json");
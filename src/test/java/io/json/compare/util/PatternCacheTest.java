@@ -0,0 +1,60 @@
+package io.json.compare.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PatternCacheTest {
+
+    @Test
+    public void testCompiledPatternIsReused() {
+        PatternCache cache = new PatternCache(10);
+        Pattern pattern = cache.get("a.*b").get();
+        assertSame(pattern, cache.get("a.*b").get());
+        assertTrue(pattern.matcher("a\nb").matches());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testConcurrentLookupsShareCompiledPatterns() {
+        PatternCache cache = new PatternCache(100);
+        Set<Pattern> patterns = IntStream.range(0, 1000).parallel().mapToObj(i -> cache.get("a" + (i % 10) + ".*").get())
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+        assertEquals(10, patterns.size());
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testInvalidRegexIsCached() {
+        PatternCache cache = new PatternCache(10);
+        assertFalse(cache.get("(test").isPresent());
+        assertFalse(cache.get("(test").isPresent());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        PatternCache cache = new PatternCache(2);
+        Pattern a = cache.get("a").get();
+        cache.get("b");
+        assertSame(a, cache.get("a").get());
+        assertEquals(2, cache.size());
+        // a full cache is emptied before caching the next expression
+        assertTrue(cache.get("c").get().matcher("c").matches());
+        assertEquals(1, cache.size());
+        assertTrue(cache.get("a").get().matcher("a").matches());
+        assertEquals(2, cache.size());
+
+        PatternCache noCache = new PatternCache(0);
+        assertTrue(noCache.get("a").isPresent());
+        assertEquals(0, noCache.size());
+        assertThrows(IllegalArgumentException.class, () -> new PatternCache(-1));
+    }
+}
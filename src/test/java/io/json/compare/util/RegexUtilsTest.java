@@ -0,0 +1,42 @@
+package io.json.compare.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegexUtilsTest {
+
+    @Test
+    public void testLiterals() {
+        assertNotNull(RegexUtils.literalOf("status"));
+        assertNotNull(RegexUtils.literalOf("ACTIVE 42"));
+        assertNotNull(RegexUtils.literalOf(""));
+        assertNotNull(RegexUtils.literalOf("\\Q$1,029.68\\E"));
+        assertNotNull(RegexUtils.literalOf("\\Q(a|b)"));
+        assertNull(RegexUtils.literalOf("\\d+"));
+        assertNull(RegexUtils.literalOf("a.b"));
+        assertNull(RegexUtils.literalOf("\\Qa\\E.*"));
+        assertNull(RegexUtils.literalOf("\\Qa\\E\\Qb\\E"));
+    }
+
+    @Test
+    public void testLiteralValuesMatchRegexSemantics() {
+        String[] literals = {"status", "", "\\Q$1,029.68\\E", "\\Q(a|b)", "\\Q\\E", "\\Q", "\\Q\\\\E", "line1\nline2"};
+        for (String literal : literals) {
+            assertNotNull(RegexUtils.literalOf(literal));
+            assertTrue(Pattern.compile(literal, Pattern.DOTALL | Pattern.MULTILINE)
+                    .matcher(RegexUtils.literalOf(literal)).matches(), literal);
+        }
+    }
+
+    @Test
+    public void testLiteralOf() {
+        assertEquals("status", RegexUtils.literalOf("status"));
+        assertEquals("$1,029.68", RegexUtils.literalOf("\\Q$1,029.68\\E"));
+        assertEquals("(a|b)", RegexUtils.literalOf("\\Q(a|b)"));
+        assertNull(RegexUtils.literalOf("a.b"));
+        assertNull(RegexUtils.literalOf("\\Qa\\E.*"));
+    }
+}